@@ -15,6 +15,7 @@ public class EnvironmentConfig {
     // Static variables to store environment and configuration data
     private static String environment;
     private static Map<String, Map<String, Map<String, String>>> environments;
+    private static final Properties properties = new Properties();
 
     // Static block to initialize configurations when the class is loaded
     static {
@@ -28,7 +29,6 @@ public class EnvironmentConfig {
     private static void loadConfigurations() {
         try {
             // Load the config.properties file
-            Properties properties = new Properties();
             InputStream propertiesInputStream = EnvironmentConfig.class
                     .getClassLoader()
                     .getResourceAsStream("properties/config.properties");  // Path relative to classpath
@@ -88,6 +88,29 @@ public class EnvironmentConfig {
         return getEnvironmentProperty("password");
     }
 
+    /**
+     * Retrieves a framework setting. A system property of the same name takes precedence
+     * over the value in config.properties.
+     *
+     * @param name         The name of the setting (e.g., "locators.hotReload").
+     * @param defaultValue The value to return if the setting is not defined.
+     * @return The setting value, or the default value if not found.
+     */
+    public static String getProperty(String name, String defaultValue) {
+        return System.getProperty(name, properties.getProperty(name, defaultValue));
+    }
+
+    /**
+     * Retrieves a boolean framework setting.
+     *
+     * @param name         The name of the setting.
+     * @param defaultValue The value to return if the setting is not defined.
+     * @return The setting value, or the default value if not found.
+     */
+    public static boolean getBooleanProperty(String name, boolean defaultValue) {
+        return Boolean.parseBoolean(getProperty(name, String.valueOf(defaultValue)));
+    }
+
     /**
      * Helper method to retrieve a specific property for the current environment.
      *
@@ -6,7 +6,10 @@ import com.github.javafaker.Name;
 import com.microsoft.playwright.Page;
 import io.qameta.allure.Step;
 
+import java.text.SimpleDateFormat;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
 
 import configurations.EnvironmentConfig;
@@ -22,6 +25,7 @@ public class HomePage extends WebInteractionHelper {
     private static final String ADDRESS_TYPE_HOME = "Home";
     private static final String ADDRESS_TYPE_OFFICE = "Office";
     private static final String PHONE_TYPE_MOBILE = "Mobile";
+    private static final String DATE_FORMAT = "MM/dd/yyyy";
 
     /**
      * Constructor to initialize HomePage with a Playwright Page instance.
@@ -66,34 +70,34 @@ public class HomePage extends WebInteractionHelper {
         click("common.newAccountButton");
 
         // Fill in person details
-        String firstName = name.firstName();
-        String lastName = name.lastName();
-//        page.locator("input[name*=InputSet-FirstName]").waitFor();
-        type("account.firstNameField", firstName);
-        type("account.lastNameField", lastName);
+        Map<String, Object> searchFields = new LinkedHashMap<>();
+        searchFields.put("account.firstNameField", name.firstName());
+        searchFields.put("account.lastNameField", name.lastName());
+        fillForm(searchFields);
 
         click("common.searchButton");
         click("account.createNewAccountButton");
         click("account.personButton");
 
-        // Fill in personal information
-        type("account.dateOfBirthField", fakedData.date().birthday(18, 65).toString());
-        selectByText("account.genderDropdown", getRandomGender());
-        selectByText("account.maritalStatusDropdown", getRandomMaritalStatus());
-
-        // Fill in contact information
-        selectByText("account.primaryPhoneDropdown", PHONE_TYPE_MOBILE);
-        type("account.primaryEmailField", fakedData.internet().emailAddress());
-        type("account.mobilePhoneField", fakedData.phoneNumber().cellPhone());
-
-        // Fill in US address information
-        selectByText("account.countryDropdown", COUNTRY_US);
-        type("account.zipCodeField", zipCode);
-        type("account.addressLine1Field", fakedAddress.streetAddress());
-        type("account.cityField", fakedAddress.city());
-        selectByValue("account.stateDropdown", addressState);
-
-        selectByText("account.addressTypeDropdown", ADDRESS_TYPE_HOME);
+        Map<String, Object> accountFields = new LinkedHashMap<>();
+        // Personal information
+        accountFields.put("account.dateOfBirthField", new SimpleDateFormat(DATE_FORMAT).format(fakedData.date().birthday(18, 65)));
+        accountFields.put("account.genderDropdown", getRandomGender());
+        accountFields.put("account.maritalStatusDropdown", getRandomMaritalStatus());
+
+        // Contact information
+        accountFields.put("account.primaryPhoneDropdown", PHONE_TYPE_MOBILE);
+        accountFields.put("account.primaryEmailField", fakedData.internet().emailAddress());
+        accountFields.put("account.mobilePhoneField", fakedData.phoneNumber().cellPhone());
+
+        // US address information; country and zip code post back and are filled one by one
+        accountFields.put("account.countryDropdown", COUNTRY_US);
+        accountFields.put("account.zipCodeField", zipCode);
+        accountFields.put("account.addressLine1Field", fakedAddress.streetAddress());
+        accountFields.put("account.cityField", fakedAddress.city());
+        accountFields.put("account.stateDropdown", addressState);
+        accountFields.put("account.addressTypeDropdown", ADDRESS_TYPE_HOME);
+        fillForm(accountFields);
 
         // Fill in organization information
         type("account.organizationField", "Aon Org");
@@ -119,19 +123,20 @@ public class HomePage extends WebInteractionHelper {
         click("account.createNewAccountButton");
         click("account.companyButton");
 
-        // Fill in contact information
-        selectByText("account.primaryPhoneDropdown", PHONE_TYPE_MOBILE);
-        type("account.primaryEmailField", fakedData.internet().emailAddress());
-        type("account.mobilePhoneField", fakedData.phoneNumber().cellPhone());
-
-        // Fill in US address information
-        selectByText("account.countryDropdown", COUNTRY_US);
-        type("account.zipCodeField", fakedData.address().zipCode());
-        type("account.addressLine1Field", fakedData.address().streetAddress());
-        type("account.cityField", fakedData.address().city());
-        selectByText("account.stateDropdown", fakedData.address().state());
-
-        selectByText("account.addressTypeDropdown", ADDRESS_TYPE_OFFICE);
+        Map<String, Object> accountFields = new LinkedHashMap<>();
+        // Contact information
+        accountFields.put("account.primaryPhoneDropdown", PHONE_TYPE_MOBILE);
+        accountFields.put("account.primaryEmailField", fakedData.internet().emailAddress());
+        accountFields.put("account.mobilePhoneField", fakedData.phoneNumber().cellPhone());
+
+        // US address information; country and zip code post back and are filled one by one
+        accountFields.put("account.countryDropdown", COUNTRY_US);
+        accountFields.put("account.zipCodeField", fakedData.address().zipCode());
+        accountFields.put("account.addressLine1Field", fakedData.address().streetAddress());
+        accountFields.put("account.cityField", fakedData.address().city());
+        accountFields.put("account.stateDropdown", fakedData.address().state());
+        accountFields.put("account.addressTypeDropdown", ADDRESS_TYPE_OFFICE);
+        fillForm(accountFields);
 
         // Fill in organization information
         type("account.organizationField", "Aon Org");
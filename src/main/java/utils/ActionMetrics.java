@@ -0,0 +1,166 @@
+package utils;
+
+import configurations.EnvironmentConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Latency distributions of the element actions of a run.
+ * <p>
+ * For every action type and element, {@link LatencyHistogram}s record the time spent waiting for
+ * the element to be ready, the time spent performing the action and the total, together with the
+ * number of failed and of retried actions. Test durations are recorded alongside. Recording is
+ * enabled with {@code metrics.enabled} (the default) and {@link #export()} writes p50, p90, p99
+ * and max of every histogram as JSON to the file named by {@code metrics.file}.
+ */
+public final class ActionMetrics {
+    private static final Logger logger = Logger.getLogger(ActionMetrics.class.getName());
+
+    private static final boolean ENABLED = EnvironmentConfig.getBooleanProperty("metrics.enabled", true);
+    private static final Path METRICS_FILE = Paths.get(EnvironmentConfig.getProperty("metrics.file", "target/action-metrics.json"));
+
+    /** Key of actions on the page rather than an element, such as key presses without a target. */
+    private static final String PAGE_KEY = "page";
+
+    private static final Map<ActionType, Map<String, ElementMetrics>> metrics = new EnumMap<>(ActionType.class);
+    private static final LatencyHistogram testDurations = new LatencyHistogram();
+
+    static {
+        for (ActionType action : ActionType.values()) {
+            metrics.put(action, new ConcurrentHashMap<>());
+        }
+    }
+
+    private ActionMetrics() {
+    }
+
+    /**
+     * @return true if actions are recorded.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Records one element action.
+     *
+     * @param action      The action type.
+     * @param element     The element acted on; null for actions on the page.
+     * @param waitNanos   Time spent waiting for the element, in nanoseconds.
+     * @param actionNanos Time spent performing the action once the element was ready, in nanoseconds.
+     * @param failed      Whether the action failed.
+     */
+    public static void record(ActionType action, ElementInfo element, long waitNanos, long actionNanos, boolean failed) {
+        ElementMetrics elementMetrics = metricsOf(action, element);
+        elementMetrics.wait.record(waitNanos);
+        elementMetrics.action.record(actionNanos);
+        elementMetrics.total.record(waitNanos + actionNanos);
+        if (failed) {
+            elementMetrics.failures.increment();
+        }
+    }
+
+    /**
+     * Records that a failed element action is being retried.
+     *
+     * @param action  The action type.
+     * @param element The element acted on.
+     */
+    public static void recordRetry(ActionType action, ElementInfo element) {
+        metricsOf(action, element).retries.increment();
+    }
+
+    /**
+     * Records the duration of a test.
+     *
+     * @param millis Test duration in milliseconds.
+     */
+    public static void recordTestDuration(long millis) {
+        testDurations.record(millis * 1_000_000);
+    }
+
+    /**
+     * Returns all recorded distributions as JSON: an {@code actions} array with one entry per
+     * action type and element, each holding its count, failures, retries and the {@code wait},
+     * {@code action} and {@code total} percentiles in milliseconds, and the {@code tests} durations.
+     *
+     * @return The metrics as JSON.
+     */
+    public static String toJson() {
+        StringBuilder json = new StringBuilder("{\"actions\":[");
+        boolean first = true;
+        for (Map.Entry<ActionType, Map<String, ElementMetrics>> byAction : metrics.entrySet()) {
+            for (Map.Entry<String, ElementMetrics> entry : new TreeMap<>(byAction.getValue()).entrySet()) {
+                ElementMetrics elementMetrics = entry.getValue();
+                json.append(first ? "\n" : ",\n");
+                first = false;
+                json.append("{\"type\":\"").append(byAction.getKey())
+                        .append("\",\"element\":\"").append(escape(entry.getKey()))
+                        .append("\",\"count\":").append(elementMetrics.total.count())
+                        .append(",\"failures\":").append(elementMetrics.failures.sum())
+                        .append(",\"retries\":").append(elementMetrics.retries.sum())
+                        .append(",\"wait\":");
+                elementMetrics.wait.appendJson(json);
+                json.append(",\"action\":");
+                elementMetrics.action.appendJson(json);
+                json.append(",\"total\":");
+                elementMetrics.total.appendJson(json);
+                json.append('}');
+            }
+        }
+        json.append("\n],\"tests\":");
+        testDurations.appendJson(json);
+        return json.append("}\n").toString();
+    }
+
+    /**
+     * Writes the metrics JSON to the file named by {@code metrics.file}.
+     *
+     * @return The metrics as JSON.
+     */
+    public static String export() {
+        String json = toJson();
+        try {
+            Path parent = METRICS_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(METRICS_FILE, json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warning("Failed to write action metrics " + METRICS_FILE.toAbsolutePath() + ": " + e.getMessage());
+        }
+        return json;
+    }
+
+    private static ElementMetrics metricsOf(ActionType action, ElementInfo element) {
+        Map<String, ElementMetrics> byElement = metrics.get(action);
+        String key = element == null ? PAGE_KEY : element.getKey();
+        ElementMetrics elementMetrics = byElement.get(key);
+        if (elementMetrics == null) {
+            elementMetrics = byElement.computeIfAbsent(key, e -> new ElementMetrics());
+        }
+        return elementMetrics;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static final class ElementMetrics {
+        private final LatencyHistogram wait = new LatencyHistogram();
+        private final LatencyHistogram action = new LatencyHistogram();
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+    }
+}
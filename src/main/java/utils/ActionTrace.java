@@ -0,0 +1,163 @@
+package utils;
+
+import configurations.EnvironmentConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-thread record of the most recent element actions, for failure reports.
+ * <p>
+ * Each thread owns a ring of {@code trace.capacity} preallocated slots (64 by default) holding
+ * the action type, the element, start, ready and end times and the outcome of one action.
+ * Recording an action only writes array elements, so it allocates nothing; text is produced only
+ * when the trace is dumped. The helper marks an action ready once its element has been located,
+ * which splits the action's time into waiting and acting; ended actions feed
+ * {@link ActionMetrics}.
+ */
+public final class ActionTrace {
+    private static final int CAPACITY = Math.max(1, Integer.parseInt(EnvironmentConfig.getProperty("trace.capacity", "64")));
+
+    private static final byte RUNNING = 0;
+    private static final byte PASSED = 1;
+    private static final byte FAILED = 2;
+
+    private static final ThreadLocal<ActionTrace> TRACES = ThreadLocal.withInitial(ActionTrace::new);
+
+    private final ActionType[] actions = new ActionType[CAPACITY];
+    private final ElementInfo[] elements = new ElementInfo[CAPACITY];
+    private final long[] sequences = new long[CAPACITY];
+    private final long[] startNanos = new long[CAPACITY];
+    private final long[] readyNanos = new long[CAPACITY];
+    private final long[] endNanos = new long[CAPACITY];
+    private final byte[] outcomes = new byte[CAPACITY];
+    private long recorded;
+    private long open = -1;
+
+    private ActionTrace() {
+    }
+
+    /**
+     * Records the start of an action on the calling thread.
+     *
+     * @param action  The action type.
+     * @param element The element acted on.
+     * @return Sequence number of the action, to pass to {@link #fail(long)} and {@link #end(long)}.
+     */
+    public static long begin(ActionType action, ElementInfo element) {
+        ActionTrace trace = TRACES.get();
+        long sequence = ++trace.recorded;
+        int slot = (int) (sequence % CAPACITY);
+        trace.actions[slot] = action;
+        trace.elements[slot] = element;
+        trace.sequences[slot] = sequence;
+        trace.startNanos[slot] = System.nanoTime();
+        trace.readyNanos[slot] = 0;
+        trace.endNanos[slot] = 0;
+        trace.outcomes[slot] = RUNNING;
+        trace.open = sequence;
+        return sequence;
+    }
+
+    /**
+     * Marks the innermost running action of the calling thread as ready, i.e. its element has been
+     * located and waited for.
+     */
+    public static void ready() {
+        ActionTrace trace = TRACES.get();
+        int slot = trace.slotOf(trace.open);
+        if (slot >= 0 && trace.readyNanos[slot] == 0) {
+            trace.readyNanos[slot] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks an action as failed. The action still has to be ended.
+     *
+     * @param sequence Sequence number returned by {@link #begin(ActionType, ElementInfo)}.
+     */
+    public static void fail(long sequence) {
+        ActionTrace trace = TRACES.get();
+        int slot = trace.slotOf(sequence);
+        if (slot >= 0) {
+            trace.outcomes[slot] = FAILED;
+        }
+    }
+
+    /**
+     * Records the end of an action, which passed unless it was marked failed, and passes its
+     * wait and action times on to {@link ActionMetrics}.
+     *
+     * @param sequence Sequence number returned by {@link #begin(ActionType, ElementInfo)}.
+     */
+    public static void end(long sequence) {
+        ActionTrace trace = TRACES.get();
+        int slot = trace.slotOf(sequence);
+        if (slot < 0) {
+            return;
+        }
+        long end = System.nanoTime();
+        trace.endNanos[slot] = end;
+        if (trace.outcomes[slot] == RUNNING) {
+            trace.outcomes[slot] = PASSED;
+        }
+        if (ActionMetrics.isEnabled()) {
+            long start = trace.startNanos[slot];
+            long ready = trace.readyNanos[slot] == 0 ? end : trace.readyNanos[slot];
+            ActionMetrics.record(trace.actions[slot], trace.elements[slot], ready - start, end - ready, trace.outcomes[slot] == FAILED);
+        }
+        if (trace.open == sequence) {
+            trace.open = -1;
+        }
+    }
+
+    /**
+     * Forgets the actions recorded on the calling thread, e.g. when a new test starts.
+     */
+    public static void clear() {
+        ActionTrace trace = TRACES.get();
+        for (int i = 0; i < CAPACITY; i++) {
+            trace.elements[i] = null;
+            trace.sequences[i] = 0;
+        }
+        trace.open = -1;
+    }
+
+    /**
+     * Returns the actions recorded on the calling thread, oldest first, one per line: sequence
+     * number, start time relative to the dump, action, element, wait and action time and outcome.
+     *
+     * @return The trace as text; empty if no action was recorded.
+     */
+    public static String dump() {
+        ActionTrace trace = TRACES.get();
+        long now = System.nanoTime();
+        StringBuilder builder = new StringBuilder();
+        long first = Math.max(1, trace.recorded - CAPACITY + 1);
+        for (long sequence = first; sequence <= trace.recorded; sequence++) {
+            int slot = trace.slotOf(sequence);
+            if (slot < 0) {
+                continue;
+            }
+            long start = trace.startNanos[slot];
+            long ready = trace.readyNanos[slot];
+            long end = trace.endNanos[slot];
+            builder.append('#').append(sequence)
+                    .append(" -").append(TimeUnit.NANOSECONDS.toMillis(now - start)).append("ms ")
+                    .append(trace.actions[slot]).append(' ')
+                    .append(trace.elements[slot])
+                    .append(" wait=").append(ready == 0 ? "-" : TimeUnit.NANOSECONDS.toMillis(ready - start) + "ms")
+                    .append(" act=").append(ready == 0 || end == 0 ? "-" : TimeUnit.NANOSECONDS.toMillis(end - ready) + "ms")
+                    .append(' ').append(trace.outcomes[slot] == PASSED ? "PASSED" : trace.outcomes[slot] == FAILED ? "FAILED" : "RUNNING")
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+
+    private int slotOf(long sequence) {
+        if (sequence <= 0) {
+            return -1;
+        }
+        int slot = (int) (sequence % CAPACITY);
+        return sequences[slot] == sequence ? slot : -1;
+    }
+}
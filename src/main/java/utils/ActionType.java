@@ -0,0 +1,35 @@
+package utils;
+
+/**
+ * Kinds of actions performed by {@link WebInteractionHelper}, used to check an element action
+ * against the {@link ElementType} of its element, to pick type-specific fast paths and to group
+ * the {@link ActionMetrics} of a run.
+ */
+public enum ActionType {
+    CLICK,
+    DOUBLE_CLICK,
+    RIGHT_CLICK,
+    HOVER,
+    FOCUS,
+    SCROLL,
+    CLEAR,
+    TYPE,
+    PRESS_KEY,
+    SELECT,
+    CHECK,
+    UNCHECK,
+    UPLOAD,
+    DRAG,
+    /** Explicit waits for an element to become visible. */
+    WAIT,
+    /** Reads Playwright waits for, such as text, value and attribute reads. */
+    READ,
+    /** State probes Playwright answers immediately without waiting, such as visibility checks. */
+    QUERY,
+    /** Form fields set together in one script evaluation. */
+    FILL,
+    /** Elements read together in one script evaluation. */
+    READ_ALL,
+    /** Switches between frames and tabs. */
+    SWITCH
+}
@@ -0,0 +1,68 @@
+package utils;
+
+import java.util.Locale;
+
+/**
+ * How much {@link WebInteractionHelper} prepares an element before acting on it, on top of the
+ * actionability checks Playwright itself performs.
+ * <p>
+ * Configured with {@code actionability.strategy} (strict, playwright-native or none) and
+ * changeable per helper instance.
+ */
+public enum ActionabilityStrategy {
+    /**
+     * Waits for the element to be visible before every action and scrolls it into view before
+     * every action that interacts with it, except where the element's {@link ElementType} makes a
+     * step redundant. Reads and queries do not need the element in the viewport and are not
+     * preceded by a scroll.
+     */
+    STRICT,
+    /**
+     * Relies on Playwright's auto-waiting: actions and reads go straight to Playwright, which waits
+     * for and scrolls to the element itself. Only queries Playwright answers without waiting, such
+     * as visibility checks, are preceded by a visibility wait.
+     */
+    PLAYWRIGHT_NATIVE,
+    /**
+     * Like {@link #PLAYWRIGHT_NATIVE} for actions, while reads and queries are not preceded by any
+     * visibility wait either. Queries answer from the current DOM at once; reads of text and
+     * attributes still wait, with Playwright's default timeout, for the element to be attached.
+     * Meant for read paths on pages known to be loaded.
+     */
+    NONE;
+
+    /**
+     * Parses a strategy name such as "strict" or "playwright-native".
+     *
+     * @param name Strategy name, case-insensitive, with '-' or '_' as separator.
+     * @return The strategy.
+     * @throws IllegalArgumentException If the name is not a known strategy.
+     */
+    public static ActionabilityStrategy fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    /**
+     * @param action The action about to be performed.
+     * @return true if the element is first waited for to be visible.
+     */
+    public boolean waitsForVisibility(ActionType action) {
+        switch (this) {
+            case STRICT:
+                return true;
+            case PLAYWRIGHT_NATIVE:
+                return action == ActionType.QUERY;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @param action The action about to be performed.
+     * @return true if the element is first scrolled into view; never for reads and queries, nor for
+     * scrolling, which does so itself.
+     */
+    public boolean scrollsIntoView(ActionType action) {
+        return this == STRICT && action != ActionType.READ && action != ActionType.QUERY && action != ActionType.SCROLL;
+    }
+}
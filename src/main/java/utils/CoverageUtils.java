@@ -7,10 +7,19 @@ import java.util.logging.Logger;
 
 /**
  * Utility class for handling coverage-related interactions.
+ * <p>
+ * Coverage elements are locator templates of the "coverage" locator page, instantiated with the
+ * coverage (and term) display names.
  */
 public class CoverageUtils extends WebInteractionHelper {
     private static final Logger logger = Logger.getLogger(CoverageUtils.class.getName());
 
+    private static final String COVERAGE_ROW = "coverage.coverageRow";
+    private static final String COVERAGE_CHECKBOX = "coverage.coverageCheckbox";
+    private static final String COVERAGE_SELECTED_ROW = "coverage.coverageSelectedRow";
+    private static final String COVERAGE_REQUIRED_ICON = "coverage.coverageRequiredIcon";
+    private static final String COVERAGE_TERM = "coverage.coverageTerm";
+
     /**
      * Constructor to initialize CoverageUtils with a Playwright Page instance.
      *
@@ -28,9 +37,8 @@ public class CoverageUtils extends WebInteractionHelper {
      * @param coverageName Display name of the coverage.
      */
     public void addElectableCoverage(String coverageName) {
-        String checkboxLocator = String.format("//div[contains(text(), '%s')]/ancestor::tr//input[@type='checkbox']", coverageName);
         if (!isCoveragePresent(coverageName)) {
-            click(checkboxLocator);
+            click(ElementInfo.of(COVERAGE_CHECKBOX, coverageName));
             waitForCoverageAdded(coverageName);
         }
     }
@@ -42,8 +50,7 @@ public class CoverageUtils extends WebInteractionHelper {
      */
     public void removeElectableCoverage(String coverageName) {
         if (isCoverageRemovable(coverageName)) {
-            String checkboxLocator = String.format("//div[contains(text(), '%s')]/ancestor::tr//input[@type='checkbox']", coverageName);
-            uncheck(checkboxLocator);
+            uncheck(ElementInfo.of(COVERAGE_CHECKBOX, coverageName));
         } else {
             throw new IllegalStateException(coverageName + " is mandatory and cannot be removed");
         }
@@ -57,7 +64,7 @@ public class CoverageUtils extends WebInteractionHelper {
      * @param value        Value to set.
      */
     public void setCoverageTerm(String coverageName, String termName, String value) {
-        String termLocator = getTermLocator(coverageName, termName);
+        ElementInfo termLocator = getTermLocator(coverageName, termName);
         String fieldType = getFieldType(termLocator);
 
         switch (fieldType.toLowerCase()) {
@@ -121,8 +128,7 @@ public class CoverageUtils extends WebInteractionHelper {
      * @return List of available options.
      */
     public List<String> getAvailableTermOptions(String coverageName, String termName) {
-        String optionsLocator = getTermLocator(coverageName, termName) + "//option";
-        return getAllTextContents(optionsLocator);
+        return getOptions(getTermLocator(coverageName, termName));
     }
 
     /**
@@ -139,26 +145,24 @@ public class CoverageUtils extends WebInteractionHelper {
     // Helper methods
 
     /**
-     * Generates the locator for a coverage term.
+     * Returns the element of a coverage term.
      *
      * @param coverageName Parent coverage name
      * @param termName     Term display name
-     * @return Locator for the term
+     * @return Element of the term
      */
-    private String getTermLocator(String coverageName, String termName) {
-        return String.format("%s//div[contains(text(), '%s')]/following-sibling::div//input | %s//div[contains(text(), '%s')]/following-sibling::div//select",
-                getCoverageRowLocator(coverageName), termName,
-                getCoverageRowLocator(coverageName), termName);
+    private ElementInfo getTermLocator(String coverageName, String termName) {
+        return ElementInfo.of(COVERAGE_TERM, coverageName, termName);
     }
 
     /**
-     * Generates the locator for a coverage row.
+     * Returns the element of a coverage row.
      *
      * @param coverageName Display name of the coverage
-     * @return Locator for the coverage row
+     * @return Element of the coverage row
      */
-    private String getCoverageRowLocator(String coverageName) {
-        return String.format("//div[@role='row' and .//div[contains(text(), '%s')]]", coverageName);
+    private ElementInfo getCoverageRowLocator(String coverageName) {
+        return ElementInfo.of(COVERAGE_ROW, coverageName);
     }
 
     /**
@@ -168,21 +172,21 @@ public class CoverageUtils extends WebInteractionHelper {
      * @return true if the coverage is mandatory, false otherwise
      */
     private boolean isMandatoryCoverage(String coverageName) {
-        String locator = String.format("%s//*[local-name()='svg' and contains(@class,'required-icon')]", getCoverageRowLocator(coverageName));
-        return isVisible(locator);
+        return isVisible(ElementInfo.of(COVERAGE_REQUIRED_ICON, coverageName));
     }
 
     /**
-     * Determines the coverage field type.
+     * Determines the coverage field type from the term element in a single browser round trip.
      *
-     * @param locator of the coverage field
+     * @param termLocator Element of the coverage term
      * @return Field Type of the coverage
      */
-    private String getFieldType(String locator) {
-        if (locator.contains("select")) return "dropdown";
-        if (locator.contains("checkbox")) return "checkbox";
-        if (hasClass(locator, "currency-input")) return "currency";
-        return "textfield";
+    private String getFieldType(ElementInfo termLocator) {
+        return (String) getElementLocator(termLocator, ActionType.READ).evaluate(
+                "element => element.tagName === 'SELECT' ? 'dropdown'"
+                        + " : element.type === 'checkbox' ? 'checkbox'"
+                        + " : element.classList.contains('currency-input') ? 'currency'"
+                        + " : 'textfield'");
     }
 
     /**
@@ -191,7 +195,6 @@ public class CoverageUtils extends WebInteractionHelper {
      * @param coverageName Display name of the coverage
      */
     private void waitForCoverageAdded(String coverageName) {
-        String locator = String.format("//div[contains(text(), '%s')]/ancestor::tr[contains(@class, 'selected')]", coverageName);
-        waitForElement(locator);
+        waitForElement(ElementInfo.of(COVERAGE_SELECTED_ROW, coverageName));
     }
 }
\ No newline at end of file
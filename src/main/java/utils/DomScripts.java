@@ -0,0 +1,210 @@
+package utils;
+
+/**
+ * JavaScript evaluated in the browser to resolve several locator selectors in a single
+ * round trip. Selectors starting with "//", ".." or "(" (or prefixed "xpath=") are evaluated as
+ * XPath, all others as CSS. Playwright-only selector engines (e.g. "text=", "&gt;&gt;") cannot be
+ * resolved in the page and are reported as errors.
+ */
+final class DomScripts {
+
+    /**
+     * Shared helpers: {@code resolve(selector, root)} returns the matching elements and
+     * {@code visible(element)} applies Playwright's visibility rule (non-empty box, not
+     * visibility:hidden).
+     */
+    private static final String HELPERS =
+            "const resolve = (selector, root) => {\n" +
+            "  root = root || document;\n" +
+            "  if (selector.startsWith('css=')) return Array.from(root.querySelectorAll(selector.substring(4)));\n" +
+            "  if (selector.startsWith('xpath=')) selector = selector.substring(6);\n" +
+            "  else if (!(selector.startsWith('//') || selector.startsWith('..') || selector.startsWith('('))) {\n" +
+            "    return Array.from(root.querySelectorAll(selector));\n" +
+            "  }\n" +
+            "  const snapshot = document.evaluate(selector, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n" +
+            "  const nodes = [];\n" +
+            "  for (let i = 0; i < snapshot.snapshotLength; i++) nodes.push(snapshot.snapshotItem(i));\n" +
+            "  return nodes;\n" +
+            "};\n" +
+            "const visible = element => {\n" +
+            "  if (!element || getComputedStyle(element).visibility === 'hidden') return false;\n" +
+            "  const box = element.getBoundingClientRect();\n" +
+            "  return box.width > 0 && box.height > 0;\n" +
+            "};\n";
+
+    /**
+     * Takes a list of {name, selector} entries and returns, per entry, the name and selector, the
+     * match count, visibility of the first match, resolution time in milliseconds and any error.
+     */
+    static final String SCAN =
+            "entries => {\n" + HELPERS +
+            "  return entries.map(entry => {\n" +
+            "    const start = performance.now();\n" +
+            "    try {\n" +
+            "      const nodes = resolve(entry.selector);\n" +
+            "      const millis = performance.now() - start;\n" +
+            "      return {name: entry.name, selector: entry.selector, count: nodes.length, visible: visible(nodes[0]), millis: millis, error: null};\n" +
+            "    } catch (e) {\n" +
+            "      return {name: entry.name, selector: entry.selector, count: 0, visible: false, millis: performance.now() - start, error: String(e.message || e)};\n" +
+            "    }\n" +
+            "  });\n" +
+            "}";
+
+    /**
+     * Takes a list of selectors and returns the page's element count as {@code domSize} and, per
+     * selector, the mean resolution time in milliseconds and the match count. Each selector is
+     * resolved repeatedly, for at least two milliseconds or 50 times, so that cheap selectors are
+     * measured above the browser's timer resolution.
+     */
+    static final String PROFILE =
+            "selectors => {\n" + HELPERS +
+            "  const domSize = document.getElementsByTagName('*').length;\n" +
+            "  const results = selectors.map(selector => {\n" +
+            "    try {\n" +
+            "      let nodes = [];\n" +
+            "      let runs = 0;\n" +
+            "      const start = performance.now();\n" +
+            "      do {\n" +
+            "        nodes = resolve(selector);\n" +
+            "        runs++;\n" +
+            "      } while (performance.now() - start < 2 && runs < 50);\n" +
+            "      return {selector: selector, millis: (performance.now() - start) / runs, count: nodes.length, error: null};\n" +
+            "    } catch (e) {\n" +
+            "      return {selector: selector, millis: 0, count: 0, error: String(e.message || e)};\n" +
+            "    }\n" +
+            "  });\n" +
+            "  return {domSize: domSize, results: results};\n" +
+            "}";
+
+    /**
+     * Takes a list of {name, selectors} entries and returns, per entry, the name and the state of
+     * the element matched by its first matching selector: whether it was found, its value (for
+     * inputs, text areas and selects), text content, checked state and visibility.
+     */
+    static final String READ_ALL =
+            "entries => {\n" + HELPERS +
+            "  return entries.map(entry => {\n" +
+            "    let element = null;\n" +
+            "    for (const selector of entry.selectors) {\n" +
+            "      try { element = resolve(selector)[0] || null; } catch (e) { element = null; }\n" +
+            "      if (element) break;\n" +
+            "    }\n" +
+            "    if (!element) return {name: entry.name, found: false, value: null, text: null, checked: false, visible: false};\n" +
+            "    const value = ['INPUT', 'TEXTAREA', 'SELECT'].includes(element.tagName) ? element.value : null;\n" +
+            "    return {name: entry.name, found: true, value: value, text: element.textContent, checked: element.checked === true, visible: visible(element)};\n" +
+            "  });\n" +
+            "}";
+
+    /**
+     * Text entry helper: {@code enterText(element, value, masked)} focuses a text field, sets its
+     * value through the native setter and dispatches input and change events before blurring it.
+     * For Guidewire masked inputs (currency, date, phone) a keyup is dispatched after the input
+     * event, since their mask scripts reformat on keyup and on blur.
+     */
+    private static final String ENTER_TEXT =
+            "const enterText = (element, value, masked) => {\n" +
+            "  const prototype = element.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;\n" +
+            "  element.focus();\n" +
+            "  Object.getOwnPropertyDescriptor(prototype, 'value').set.call(element, value);\n" +
+            "  element.dispatchEvent(new Event('input', {bubbles: true}));\n" +
+            "  if (masked) element.dispatchEvent(new KeyboardEvent('keyup', {bubbles: true}));\n" +
+            "  element.dispatchEvent(new Event('change', {bubbles: true}));\n" +
+            "  element.blur();\n" +
+            "};\n";
+
+    /**
+     * Takes a list of {name, selectors, value, mask, index} entries and sets each field the way a
+     * user would leave it: text fields through {@code enterText}, selects by option label, then
+     * option value (or by index if the entry's index flag is set), followed by input, change and
+     * blur events, and checkboxes by clicking when their state differs from the value, which checks
+     * them only if it is true or the string "true". The first selector matching anything is
+     * used. Returns {name, formatted} entries for the fields that could not be set because they
+     * were missing, hidden, disabled, read-only or lacked the option, with a null value, and for
+     * the masked fields, with the value they show after formatting.
+     */
+    static final String FILL_FORM =
+            "entries => {\n" + HELPERS + ENTER_TEXT +
+            "  const results = [];\n" +
+            "  for (const entry of entries) {\n" +
+            "    let element = null;\n" +
+            "    for (const selector of entry.selectors) {\n" +
+            "      try { element = resolve(selector)[0] || null; } catch (e) { element = null; }\n" +
+            "      if (element) break;\n" +
+            "    }\n" +
+            "    if (!element || element.disabled || element.readOnly || !visible(element)) {\n" +
+            "      results.push({name: entry.name, formatted: null});\n" +
+            "      continue;\n" +
+            "    }\n" +
+            "    const value = entry.value;\n" +
+            "    if (element.type === 'checkbox' || element.type === 'radio') {\n" +
+            "      if (element.checked !== (String(value).toLowerCase() === 'true')) element.click();\n" +
+            "      continue;\n" +
+            "    }\n" +
+            "    if (element.tagName !== 'SELECT') {\n" +
+            "      enterText(element, String(value), entry.mask);\n" +
+            "      if (entry.mask) results.push({name: entry.name, formatted: element.value});\n" +
+            "      continue;\n" +
+            "    }\n" +
+            "    const options = Array.from(element.options);\n" +
+            "    let index = entry.index ? value : options.findIndex(o => o.label.trim() === String(value));\n" +
+            "    if (index < 0) index = options.findIndex(o => o.value === String(value));\n" +
+            "    if (index < 0 || index >= options.length) {\n" +
+            "      results.push({name: entry.name, formatted: null});\n" +
+            "      continue;\n" +
+            "    }\n" +
+            "    element.selectedIndex = index;\n" +
+            "    element.dispatchEvent(new Event('input', {bubbles: true}));\n" +
+            "    element.dispatchEvent(new Event('change', {bubbles: true}));\n" +
+            "    element.blur();\n" +
+            "  }\n" +
+            "  return results;\n" +
+            "}";
+
+    /**
+     * Takes a masked input element and a value, enters the value through {@code enterText} and
+     * returns the value the field shows after its mask formatted it.
+     */
+    static final String FILL_MASKED =
+            "(element, value) => {\n" + ENTER_TEXT +
+            "  enterText(element, value, true);\n" +
+            "  return element.value;\n" +
+            "}";
+
+    /**
+     * Takes a select element and a {match, key, index, count} request. If the select still has
+     * {@code count} options and the one at {@code index} matches the key by label ({@code match}
+     * LABEL), value (VALUE) or either (ANY), selects it and returns an empty list. Otherwise
+     * selects the first option matching the key, if any, and returns all options as {label, value}
+     * entries. Returns null for disabled or empty selects and other elements.
+     */
+    static final String SELECT_OPTION =
+            "(select, request) => {\n" +
+            "  if (select.tagName !== 'SELECT' || select.disabled || !select.options.length) return null;\n" +
+            "  const options = Array.from(select.options);\n" +
+            "  const matches = option => (request.match !== 'VALUE' && option.label.trim() === request.key)\n" +
+            "      || (request.match !== 'LABEL' && option.value === request.key);\n" +
+            "  const cached = options.length === request.count && request.index >= 0 && matches(options[request.index]);\n" +
+            "  const index = cached ? request.index : options.findIndex(matches);\n" +
+            "  if (index >= 0) {\n" +
+            "    select.selectedIndex = index;\n" +
+            "    select.dispatchEvent(new Event('input', {bubbles: true}));\n" +
+            "    select.dispatchEvent(new Event('change', {bubbles: true}));\n" +
+            "  }\n" +
+            "  return cached ? [] : options.map(option => ({label: option.label.trim(), value: option.value}));\n" +
+            "}";
+
+    /**
+     * Takes a select element and the number of options cached for it. Returns null if the select
+     * still has that many options, otherwise all options as {label, value} entries; other
+     * elements have no options.
+     */
+    static final String OPTIONS =
+            "(select, count) => {\n" +
+            "  if (select.tagName !== 'SELECT') return [];\n" +
+            "  if (select.options.length === count) return null;\n" +
+            "  return Array.from(select.options).map(option => ({label: option.label.trim(), value: option.value}));\n" +
+            "}";
+
+    private DomScripts() {
+    }
+}
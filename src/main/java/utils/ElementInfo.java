@@ -1,13 +1,33 @@
 package utils;
 
 import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Parses and manages element information in the format "pageName.elementName".
+ * <p>
+ * Instances are immutable. {@link #of(String)} returns a single shared, pre-parsed instance per
+ * element string, so repeated actions on the same element cost one hash lookup.
+ * <p>
+ * Elements defined as locator templates are referenced with their arguments through
+ * {@link #of(String, String...)}, e.g. {@code ElementInfo.of("coverage.coverageRow", "Liability")}.
  */
 public class ElementInfo {
+    private static final Map<String, ElementInfo> INTERNED = new ConcurrentHashMap<>();
+    private static final Map<List<String>, ElementInfo> INTERNED_INSTANCES = new ConcurrentHashMap<>();
+
     private final String pageName;
     private final String elementName;
+    private final List<String> arguments;
+    private final String key;
+    private final String description;
 
     /**
      * Constructor to parse the element string into page name and element name.
@@ -20,13 +40,65 @@ public class ElementInfo {
             throw new IllegalArgumentException("Element string cannot be null or empty.");
         }
 
-        String[] parts = element.split("\\.");
-        if (parts.length != 2) {
+        int separator = element.indexOf('.');
+        if (separator <= 0 || separator == element.length() - 1 || element.indexOf('.', separator + 1) >= 0) {
             throw new IllegalArgumentException("Invalid element format. Expected 'pageName.elementName', but got: " + element);
         }
 
-        this.pageName = parts[0];
-        this.elementName = parts[1];
+        this.pageName = element.substring(0, separator);
+        this.elementName = element.substring(separator + 1);
+        this.arguments = Collections.emptyList();
+        this.key = element;
+        this.description = elementName + " in page: " + pageName;
+    }
+
+    private ElementInfo(ElementInfo template, List<String> arguments) {
+        this.pageName = template.pageName;
+        this.elementName = template.elementName;
+        this.arguments = arguments;
+        this.key = template.key;
+        this.description = elementName + "(" + String.join(", ", arguments) + ") in page: " + pageName;
+    }
+
+    /**
+     * Returns the shared, pre-parsed ElementInfo for an element string.
+     *
+     * @param element The element string in the format "pageName.elementName".
+     * @return The interned ElementInfo.
+     * @throws IllegalArgumentException If the element string is not in the expected format.
+     */
+    public static ElementInfo of(String element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element string cannot be null or empty.");
+        }
+        ElementInfo elementInfo = INTERNED.get(element);
+        if (elementInfo == null) {
+            elementInfo = INTERNED.computeIfAbsent(element, ElementInfo::new);
+        }
+        return elementInfo;
+    }
+
+    /**
+     * Returns the shared ElementInfo for an instance of a locator template.
+     *
+     * @param element   The element string in the format "pageName.elementName".
+     * @param arguments Template arguments in declared parameter order.
+     * @return The interned ElementInfo.
+     * @throws IllegalArgumentException If the element string is not in the expected format.
+     */
+    public static ElementInfo of(String element, String... arguments) {
+        if (arguments.length == 0) {
+            return of(element);
+        }
+        List<String> key = new ArrayList<>(arguments.length + 1);
+        key.add(element);
+        key.addAll(Arrays.asList(arguments));
+        ElementInfo elementInfo = INTERNED_INSTANCES.get(key);
+        if (elementInfo == null) {
+            elementInfo = INTERNED_INSTANCES.computeIfAbsent(key,
+                    k -> new ElementInfo(of(element), Collections.unmodifiableList(Arrays.asList(arguments.clone()))));
+        }
+        return elementInfo;
     }
 
     public String getPageName() {
@@ -38,16 +110,53 @@ public class ElementInfo {
     }
 
     /**
-     * Retrieves the locator for the element using the LocatorPageManager.
+     * @return The element string "pageName.elementName", without template arguments.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return Template arguments; empty if the element is not a template instance.
+     */
+    public List<String> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Retrieves the definition of the element from its page in the LocatorPageManager, with
+     * template arguments substituted.
      *
+     * @return The element's locator definition.
+     * @throws IllegalArgumentException If the page or the element is not found, or the arguments
+     *                                  do not match the element's template parameters.
+     */
+    public LocatorDefinition getDefinition() {
+        return LocatorPageManager.getDefinition(pageName, elementName, arguments);
+    }
+
+    /**
+     * Retrieves the locator for the element's primary selector from its page in the LocatorPageManager.
+     *
+     * @param page The Playwright page the locator is bound to.
      * @return The locator as a Playwright Locator object.
      * @throws IllegalStateException If the locator cannot be retrieved.
      */
-    public Locator getLocator() {
-        Locator locator = LocatorPageManager.getLocator(elementName);
+    public Locator getLocator(Page page) {
+        LocatorDefinition definition = getDefinition();
+        Locator locator = LocatorPageManager.bind(page, definition.getFrames(), definition.getSelector());
         if (locator == null) {
             throw new IllegalStateException("Locator not found for element: " + elementName + " in page: " + pageName);
         }
         return locator;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the element and page names for log and error messages, e.g. "loginButton in page: common"
+     * or "coverageRow(Liability) in page: coverage".
+     */
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,64 @@
+package utils;
+
+/**
+ * State of one element read from the live DOM, see {@link WebInteractionHelper#readAll(java.util.List)}.
+ */
+public class ElementSnapshot {
+    private final String element;
+    private final boolean present;
+    private final String value;
+    private final String text;
+    private final boolean checked;
+    private final boolean visible;
+
+    public ElementSnapshot(String element, boolean present, String value, String text, boolean checked, boolean visible) {
+        this.element = element;
+        this.present = present;
+        this.value = value;
+        this.text = text;
+        this.checked = checked;
+        this.visible = visible;
+    }
+
+    public String getElement() {
+        return element;
+    }
+
+    /**
+     * @return true if any selector of the element matched.
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * @return Value of an input, text area or select, or null for other elements and absent ones.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return Text content of the element, or null if it is absent.
+     */
+    public String getText() {
+        return text;
+    }
+
+    public boolean isChecked() {
+        return checked;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    @Override
+    public String toString() {
+        if (!present) {
+            return element + ": not present";
+        }
+        return String.format("%s: value=%s, text=%s, %s, %s", element, value, text,
+                checked ? "checked" : "not checked", visible ? "visible" : "not visible");
+    }
+}
@@ -0,0 +1,190 @@
+package utils;
+
+import configurations.EnvironmentConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Per-element timeouts learned from how long elements took to become ready in earlier actions
+ * and runs.
+ * <p>
+ * For each element ("pageName.elementName", shared by all instances of a template) the most
+ * recent time-to-ready samples are kept. Once an element has {@code timeouts.adaptive.minSamples}
+ * samples, its timeout is the {@code timeouts.adaptive.percentile} of the samples times
+ * {@code timeouts.adaptive.multiplier}, clamped to {@code timeouts.adaptive.floor.ms} and
+ * {@code timeouts.adaptive.ceiling.ms}. A wait that times out below the ceiling is recorded as a
+ * sample of its timeout, so an element that got slower earns a longer timeout on its next use.
+ * Samples are read from the file named by {@code timeouts.adaptive.file} on first use and written
+ * back when the JVM exits. Disabled with {@code timeouts.adaptive=false}.
+ */
+public final class ElementTimeouts {
+    private static final Logger logger = Logger.getLogger(ElementTimeouts.class.getName());
+
+    private static final boolean ENABLED = EnvironmentConfig.getBooleanProperty("timeouts.adaptive", true);
+    private static final Path HISTORY_FILE = Paths.get(EnvironmentConfig.getProperty("timeouts.adaptive.file", "element-timeouts.properties"));
+    private static final double PERCENTILE = Double.parseDouble(EnvironmentConfig.getProperty("timeouts.adaptive.percentile", "99"));
+    private static final double MULTIPLIER = Double.parseDouble(EnvironmentConfig.getProperty("timeouts.adaptive.multiplier", "3"));
+    private static final int FLOOR_MILLIS = Integer.parseInt(EnvironmentConfig.getProperty("timeouts.adaptive.floor.ms", "2000"));
+    private static final int CEILING_MILLIS = Integer.parseInt(EnvironmentConfig.getProperty("timeouts.adaptive.ceiling.ms", "30000"));
+    private static final int MIN_SAMPLES = Integer.parseInt(EnvironmentConfig.getProperty("timeouts.adaptive.minSamples", "10"));
+    private static final int WINDOW = 100;
+
+    private static final Map<String, ElementHistory> histories = ENABLED ? load() : new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ElementTimeouts::save, "element-timeouts-writer"));
+        }
+    }
+
+    private ElementTimeouts() {
+    }
+
+    /**
+     * Returns the timeout for waiting on an element.
+     *
+     * @param element        The element key, "pageName.elementName".
+     * @param defaultTimeout Timeout in milliseconds to use while the element has too little history.
+     * @return Timeout in milliseconds.
+     */
+    public static int timeoutFor(String element, int defaultTimeout) {
+        if (!ENABLED) {
+            return defaultTimeout;
+        }
+        ElementHistory history = histories.get(element);
+        return history == null ? defaultTimeout : history.timeout(defaultTimeout);
+    }
+
+    /**
+     * Records how long an element took to become ready.
+     *
+     * @param element The element key, "pageName.elementName".
+     * @param millis  Time to ready in milliseconds.
+     */
+    public static void record(String element, long millis) {
+        if (!ENABLED) {
+            return;
+        }
+        ElementHistory history = histories.get(element);
+        if (history == null) {
+            history = histories.computeIfAbsent(element, e -> new ElementHistory());
+        }
+        history.add((int) Math.min(millis, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Records that waiting for an element timed out. Only timeouts below the ceiling are recorded,
+     * as samples of the timeout itself.
+     *
+     * @param element The element key, "pageName.elementName".
+     * @param timeout The timeout that elapsed, in milliseconds.
+     */
+    public static void recordTimeout(String element, int timeout) {
+        if (timeout < CEILING_MILLIS) {
+            record(element, timeout);
+        }
+    }
+
+    /**
+     * Reads the history file. Each entry maps an element key to its comma-separated samples in
+     * milliseconds, oldest first. A missing or unreadable file starts the history empty.
+     */
+    private static Map<String, ElementHistory> load() {
+        Map<String, ElementHistory> loaded = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(HISTORY_FILE)) {
+            return loaded;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(HISTORY_FILE)) {
+            properties.load(inputStream);
+            for (String element : properties.stringPropertyNames()) {
+                ElementHistory history = new ElementHistory();
+                for (String sample : properties.getProperty(element).split(",")) {
+                    history.add(Integer.parseInt(sample.trim()));
+                }
+                loaded.put(element, history);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable element timeouts " + HISTORY_FILE.toAbsolutePath() + ": " + e.getMessage());
+            loaded.clear();
+        }
+        return loaded;
+    }
+
+    private static void save() {
+        if (histories.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        for (Map.Entry<String, ElementHistory> entry : histories.entrySet()) {
+            properties.setProperty(entry.getKey(), entry.getValue().toString());
+        }
+        try {
+            Path parent = HISTORY_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream outputStream = Files.newOutputStream(HISTORY_FILE)) {
+                properties.store(outputStream, "Element time-to-ready samples in milliseconds, oldest first");
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to write element timeouts " + HISTORY_FILE.toAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The most recent samples of one element, in a ring of {@link #WINDOW} entries, with the
+     * timeout derived from them cached until the next sample.
+     */
+    private static final class ElementHistory {
+        private final int[] samples = new int[WINDOW];
+        private int count;
+        private int next;
+        private int timeout = -1;
+
+        synchronized void add(int millis) {
+            samples[next] = millis;
+            next = (next + 1) % WINDOW;
+            if (count < WINDOW) {
+                count++;
+            }
+            timeout = -1;
+        }
+
+        synchronized int timeout(int defaultTimeout) {
+            if (count < MIN_SAMPLES) {
+                return defaultTimeout;
+            }
+            if (timeout < 0) {
+                int[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int index = Math.max(0, (int) Math.ceil(PERCENTILE / 100 * count) - 1);
+                long scaled = (long) Math.ceil(sorted[Math.min(index, count - 1)] * MULTIPLIER);
+                timeout = (int) Math.max(FLOOR_MILLIS, Math.min(CEILING_MILLIS, scaled));
+            }
+            return timeout;
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(samples[(next - count + i + WINDOW) % WINDOW]);
+            }
+            return builder.toString();
+        }
+    }
+}
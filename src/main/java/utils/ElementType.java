@@ -0,0 +1,152 @@
+package utils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Element types declared by the {@code type} field of locator YAML entries.
+ * <p>
+ * Each type lists the actions that can never apply to it, so that e.g. selecting an option of a
+ * button fails before any browser round trip, and decides which preparation steps an action
+ * needs. Elements without a declared type are {@link #UNKNOWN} and accept every action.
+ * <p>
+ * {@link #CURRENCY}, {@link #DATE} and {@link #PHONE} are Guidewire masked inputs, which reformat
+ * what is entered; {@link #matchesFormatted(String, String)} tells whether the formatted value
+ * still represents the entered one.
+ */
+public enum ElementType {
+    BUTTON(ActionType.CLEAR, ActionType.TYPE, ActionType.SELECT, ActionType.CHECK, ActionType.UNCHECK, ActionType.UPLOAD),
+    MENUITEM(ActionType.CLEAR, ActionType.TYPE, ActionType.SELECT, ActionType.CHECK, ActionType.UNCHECK, ActionType.UPLOAD),
+    INPUT(ActionType.SELECT),
+    CURRENCY(ActionType.SELECT),
+    DATE(ActionType.SELECT),
+    PHONE(ActionType.SELECT),
+    CHECKBOX(ActionType.CLEAR, ActionType.TYPE, ActionType.SELECT, ActionType.UPLOAD),
+    DROPDOWN(ActionType.CLEAR, ActionType.TYPE, ActionType.CHECK, ActionType.UNCHECK, ActionType.UPLOAD),
+    TABLE(ActionType.CLEAR, ActionType.TYPE, ActionType.SELECT, ActionType.CHECK, ActionType.UNCHECK, ActionType.UPLOAD),
+    SPAN(ActionType.CLEAR, ActionType.TYPE, ActionType.SELECT, ActionType.CHECK, ActionType.UNCHECK, ActionType.UPLOAD),
+    MESSAGE(ActionType.CLEAR, ActionType.TYPE, ActionType.SELECT, ActionType.CHECK, ActionType.UNCHECK, ActionType.UPLOAD),
+    UNKNOWN;
+
+    /** Fewest digits of a phone number, a local number without area code. */
+    private static final int MIN_PHONE_DIGITS = 7;
+    /** Most digits of a country code a phone mask may add or drop. */
+    private static final int MAX_COUNTRY_CODE_DIGITS = 3;
+
+    private final Set<ActionType> unsupported;
+
+    ElementType(ActionType... unsupported) {
+        this.unsupported = unsupported.length == 0 ? EnumSet.noneOf(ActionType.class) : EnumSet.copyOf(Arrays.asList(unsupported));
+    }
+
+    /**
+     * Parses the {@code type} field of a locator YAML entry.
+     *
+     * @param name Declared type, case-insensitive, or null if the entry declares none.
+     * @return The element type; {@link #UNKNOWN} if none is declared.
+     * @throws IllegalArgumentException If the type is not a known element type.
+     */
+    public static ElementType fromName(String name) {
+        if (name == null || name.isEmpty()) {
+            return UNKNOWN;
+        }
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown element type: " + name + ", expected one of " + Arrays.toString(values()).toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * @param action The action.
+     * @return true if the action can apply to elements of this type.
+     */
+    public boolean supports(ActionType action) {
+        return !unsupported.contains(action);
+    }
+
+    /**
+     * Menu items are static once their menu is open, and clicking already waits for the item to
+     * be actionable, so the separate visibility wait is skipped.
+     *
+     * @param action The action.
+     * @return true if the element must be waited for to be visible before the action.
+     */
+    public boolean waitsForVisibility(ActionType action) {
+        return !(this == MENUITEM && action == ActionType.CLICK);
+    }
+
+    /**
+     * Filling an input focuses it, which brings it into view, and clicking a menu item scrolls
+     * it as part of the click, so the separate scroll is skipped for those.
+     *
+     * @param action The action.
+     * @return true if the element must be scrolled into view before the action.
+     */
+    public boolean scrollsIntoView(ActionType action) {
+        if (this == INPUT || isMasked()) {
+            return action != ActionType.TYPE && action != ActionType.CLEAR;
+        }
+        return !(this == MENUITEM && action == ActionType.CLICK);
+    }
+
+    /**
+     * @return true for masked inputs, which format the value entered into them.
+     */
+    public boolean isMasked() {
+        return this == CURRENCY || this == DATE || this == PHONE;
+    }
+
+    /**
+     * Tells whether the value a field shows after formatting represents the value entered: the
+     * same amount for currencies, the same numbers in the same order for dates and, for phone
+     * numbers, the same digits of at least a local number, give or take a leading country code
+     * of up to three digits. Other types must show the value as entered.
+     *
+     * @param entered   The value entered.
+     * @param formatted The value the field shows.
+     * @return true if the formatted value represents the entered one.
+     */
+    public boolean matchesFormatted(String entered, String formatted) {
+        if (entered == null || formatted == null) {
+            return entered == formatted;
+        }
+        switch (this) {
+            case CURRENCY:
+                BigDecimal enteredAmount = amount(entered);
+                BigDecimal formattedAmount = amount(formatted);
+                return enteredAmount != null && formattedAmount != null && enteredAmount.compareTo(formattedAmount) == 0;
+            case DATE:
+                return Arrays.equals(numbers(entered), numbers(formatted));
+            case PHONE:
+                String enteredDigits = entered.replaceAll("\\D", "");
+                String formattedDigits = formatted.replaceAll("\\D", "");
+                String longer = enteredDigits.length() >= formattedDigits.length() ? enteredDigits : formattedDigits;
+                String shorter = longer == enteredDigits ? formattedDigits : enteredDigits;
+                return shorter.length() >= MIN_PHONE_DIGITS && longer.length() - shorter.length() <= MAX_COUNTRY_CODE_DIGITS
+                        && longer.endsWith(shorter);
+            default:
+                return entered.equals(formatted);
+        }
+    }
+
+    private static BigDecimal amount(String value) {
+        String digits = value.replaceAll("[^0-9.]", "");
+        if (digits.isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal amount = new BigDecimal(digits);
+            return value.contains("-") || value.contains("(") ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String[] numbers(String value) {
+        return Arrays.stream(value.split("\\D+")).filter(part -> !part.isEmpty()).map(part -> part.replaceFirst("^0+(?=.)", "")).toArray(String[]::new);
+    }
+}
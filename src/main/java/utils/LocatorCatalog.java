@@ -0,0 +1,219 @@
+package utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary index of all locator pages.
+ * <p>
+ * The catalog is generated at build time from {@code locatorpages/*.yaml} by
+ * {@link LocatorCatalogCompiler} and read back at runtime without any YAML parsing.
+ * Layout: magic, format version, page count, a table of contents holding each page name with
+ * the offset and length of its section and the fingerprint of its source YAML, then the page
+ * sections. A section holds the element
+ * count and the element definitions (name, candidate count, selectors, type, metadata,
+ * template parameters, frame chain, postback flag), all written with {@link DataOutputStream}.
+ * Sections are only decoded when their page is first requested.
+ * <p>
+ * The fingerprint (size and CRC-32) lets a catalog left over from an earlier build be detected:
+ * when a page's YAML on the classpath no longer matches it, the page is reported as missing so
+ * that its YAML is parsed instead.
+ */
+public final class LocatorCatalog {
+    private static final Logger logger = Logger.getLogger(LocatorCatalog.class.getName());
+
+    /** Classpath location of the generated catalog. */
+    public static final String RESOURCE = "locatorpages/locators.catalog";
+
+    private static final int MAGIC = 0x4C4F4341;
+    private static final int FORMAT_VERSION = 8;
+
+    private static final String SOURCE_DIR = "locatorpages/";
+
+    private final byte[] content;
+    private final Map<String, int[]> sections;
+
+    private LocatorCatalog(byte[] content, Map<String, int[]> sections) {
+        this.content = content;
+        this.sections = sections;
+    }
+
+    /**
+     * Returns the catalog bundled on the classpath, loaded once per process.
+     *
+     * @return The catalog, or null if the build step that generates it has not run.
+     */
+    public static LocatorCatalog get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the names of all pages in the catalog, as written in their YAML file names.
+     *
+     * @return Page names.
+     */
+    public Set<String> getPageNames() {
+        return sections.keySet();
+    }
+
+    /**
+     * Decodes the element definitions of a page.
+     *
+     * @param pageName Page name as written in its YAML file name.
+     * @return Element definitions keyed by element name, or null if the page is not in the catalog
+     * or its YAML source changed since the catalog was built.
+     */
+    public Map<String, LocatorDefinition> getPage(String pageName) {
+        int[] section = sections.get(pageName);
+        if (section == null) {
+            return null;
+        }
+        if (!matchesSource(pageName, section)) {
+            logger.warning("Locator catalog is stale for page " + pageName + " - falling back to YAML parsing; rebuild to refresh " + RESOURCE);
+            return null;
+        }
+        try {
+            DataInputStream data = new DataInputStream(new ByteArrayInputStream(content, section[0], section[1]));
+            int elementCount = data.readInt();
+            Map<String, LocatorDefinition> elements = new HashMap<>(elementCount * 2);
+            for (int i = 0; i < elementCount; i++) {
+                LocatorDefinition definition = LocatorDefinition.readFrom(data);
+                elements.put(definition.getElementName(), definition);
+            }
+            return Collections.unmodifiableMap(elements);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt locator catalog section for page: " + pageName, e);
+        }
+    }
+
+    /**
+     * Computes the fingerprint recorded for a page's source YAML.
+     *
+     * @param yaml Content of the YAML file.
+     * @return Size and CRC-32 of the content.
+     */
+    static int[] fingerprint(byte[] yaml) {
+        CRC32 crc = new CRC32();
+        crc.update(yaml);
+        return new int[]{yaml.length, (int) crc.getValue()};
+    }
+
+    private static boolean matchesSource(String pageName, int[] section) {
+        String resourcePath = SOURCE_DIR + pageName + ".yaml";
+        try (InputStream inputStream = LocatorCatalog.class.getClassLoader().getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                return false;
+            }
+            int[] fingerprint = fingerprint(inputStream.readAllBytes());
+            return fingerprint[0] == section[2] && fingerprint[1] == section[3];
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read locator page: " + resourcePath, e);
+        }
+    }
+
+    /**
+     * Writes the given pages in catalog format. Pages and elements are sorted so that
+     * the output is identical for identical input.
+     *
+     * @param pages        Element definitions keyed by page name.
+     * @param fingerprints {@link #fingerprint(byte[]) Fingerprints} of the source YAML keyed by page name.
+     * @param out          Stream to write to; it is flushed but not closed.
+     * @throws IOException If writing fails.
+     */
+    static void write(Map<String, Map<String, LocatorDefinition>> pages, Map<String, int[]> fingerprints, OutputStream out) throws IOException {
+        ByteArrayOutputStream sectionBytes = new ByteArrayOutputStream();
+        DataOutputStream sectionData = new DataOutputStream(sectionBytes);
+        Map<String, int[]> sections = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, LocatorDefinition>> page : new TreeMap<>(pages).entrySet()) {
+            int offset = sectionData.size();
+            sectionData.writeInt(page.getValue().size());
+            for (LocatorDefinition definition : new TreeMap<>(page.getValue()).values()) {
+                definition.writeTo(sectionData);
+            }
+            int[] fingerprint = Objects.requireNonNull(fingerprints.get(page.getKey()), "No fingerprint for locator page: " + page.getKey());
+            sections.put(page.getKey(), new int[]{offset, sectionData.size() - offset, fingerprint[0], fingerprint[1]});
+        }
+
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(MAGIC);
+        header.writeShort(FORMAT_VERSION);
+        header.writeInt(sections.size());
+        for (Map.Entry<String, int[]> section : sections.entrySet()) {
+            header.writeUTF(section.getKey());
+            header.writeInt(section.getValue()[0]);
+            header.writeInt(section.getValue()[1]);
+            header.writeInt(section.getValue()[2]);
+            header.writeInt(section.getValue()[3]);
+        }
+
+        headerBytes.writeTo(out);
+        sectionBytes.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Reads a catalog written by {@link #write(Map, Map, OutputStream)}. Only the table of contents
+     * is decoded here.
+     *
+     * @param in Catalog content.
+     * @return The catalog.
+     * @throws IOException If the content is not a catalog of the supported format version.
+     */
+    static LocatorCatalog read(InputStream in) throws IOException {
+        byte[] content = in.readAllBytes();
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(content));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a locator catalog");
+        }
+        int version = data.readUnsignedShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported locator catalog version: " + version);
+        }
+
+        int pageCount = data.readInt();
+        Map<String, int[]> sections = new LinkedHashMap<>(pageCount * 2);
+        for (int i = 0; i < pageCount; i++) {
+            sections.put(data.readUTF(), new int[]{data.readInt(), data.readInt(), data.readInt(), data.readInt()});
+        }
+
+        int sectionsStart = content.length - data.available();
+        for (int[] section : sections.values()) {
+            section[0] += sectionsStart;
+            if (section[0] + section[1] > content.length) {
+                throw new IOException("Truncated locator catalog");
+            }
+        }
+        return new LocatorCatalog(content, Collections.unmodifiableMap(sections));
+    }
+
+    private static final class Holder {
+        private static final LocatorCatalog INSTANCE = loadFromClasspath();
+    }
+
+    private static LocatorCatalog loadFromClasspath() {
+        try (InputStream inputStream = LocatorCatalog.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (inputStream == null) {
+                logger.warning("Locator catalog not found: " + RESOURCE + " - falling back to YAML parsing");
+                return null;
+            }
+            return read(inputStream);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load locator catalog: " + RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Build step that compiles the YAML locator pages into a {@link LocatorCatalog}.
+ * <p>
+ * Invoked by the build during {@code process-classes}; any malformed YAML entry makes
+ * this step, and therefore the build, fail.
+ * <p>
+ * Usage: {@code LocatorCatalogCompiler <locator pages directory> <catalog file>}
+ */
+public class LocatorCatalogCompiler {
+    private static final Logger logger = Logger.getLogger(LocatorCatalogCompiler.class.getName());
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LocatorCatalogCompiler <locator pages directory> <catalog file>");
+        }
+        Path sourceDir = Paths.get(args[0]);
+        Path catalogFile = Paths.get(args[1]);
+
+        Map<String, int[]> fingerprints = new HashMap<>();
+        Map<String, Map<String, LocatorDefinition>> pages = compile(sourceDir, fingerprints);
+
+        Files.createDirectories(catalogFile.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(catalogFile)) {
+            LocatorCatalog.write(pages, fingerprints, out);
+        }
+        logger.info("Compiled " + pages.size() + " locator pages into " + catalogFile);
+    }
+
+    /**
+     * Parses and validates every YAML file of a locator pages directory.
+     *
+     * @param sourceDir    Directory containing the page YAML files.
+     * @param fingerprints Receives the fingerprint of each YAML file, keyed by page name.
+     * @return Element definitions keyed by page name.
+     * @throws IOException If the directory cannot be read.
+     */
+    static Map<String, Map<String, LocatorDefinition>> compile(Path sourceDir, Map<String, int[]> fingerprints) throws IOException {
+        Map<String, Map<String, LocatorDefinition>> pages = new HashMap<>();
+        Map<String, String> pageKeys = new HashMap<>();
+
+        try (DirectoryStream<Path> yamlFiles = Files.newDirectoryStream(sourceDir, "*.yaml")) {
+            for (Path yamlFile : yamlFiles) {
+                String pageName = yamlFile.getFileName().toString().replace(".yaml", "");
+                String previous = pageKeys.put(LocatorPageManager.pageKey(pageName), pageName);
+                if (previous != null) {
+                    throw new IllegalStateException("Duplicate locator page name: " + previous + " and " + pageName);
+                }
+
+                byte[] yaml = Files.readAllBytes(yamlFile);
+                fingerprints.put(pageName, LocatorCatalog.fingerprint(yaml));
+                try {
+                    pages.put(pageName, YamlParser.parseYaml(new ByteArrayInputStream(yaml), yamlFile.toString()));
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Invalid locator page " + yamlFile + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return pages;
+    }
+}
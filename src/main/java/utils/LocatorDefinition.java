@@ -0,0 +1,224 @@
+package utils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Definition of a named element as declared in a locator YAML page: one or more candidate
+ * selectors in declared order, the element type and its free-text description. The first
+ * candidate is the primary selector; the others are fallbacks tried when it does not match.
+ * <p>
+ * Elements hosted in an iframe declare the chain of frame selectors leading to it, outermost
+ * first; their selectors are resolved inside the innermost frame.
+ * <p>
+ * A definition declaring parameters is a template: its selectors contain {@code {parameter}}
+ * placeholders and are compiled once into {@link LocatorTemplate}s. {@link #instantiate(List)}
+ * expands them into a plain definition, cached per argument tuple.
+ */
+public final class LocatorDefinition {
+    private final String elementName;
+    private final List<String> selectors;
+    private final ElementType type;
+    private final String metadata;
+    private final List<String> parameters;
+    private final List<String> frames;
+    private final boolean postback;
+    private final List<LocatorTemplate> templates;
+    private final Map<List<String>, LocatorDefinition> instances;
+
+    /**
+     * @param elementName Name of the element within its page.
+     * @param selectors   Candidate selectors in declared order; at least one.
+     * @param type        Declared element type.
+     * @param metadata    Free-text description of the element, or null.
+     * @param parameters  Names of the template parameters in argument order; empty if the
+     *                    definition is not a template.
+     * @param frames      Selectors of the frames hosting the element, outermost first; empty if
+     *                    the element is in the main frame.
+     * @param postback    Whether changing the element's value makes the application post back and
+     *                    re-render the form.
+     * @throws IllegalArgumentException If no selector is given, a selector is empty or a declared
+     *                                  parameter is not used by any selector.
+     */
+    public LocatorDefinition(String elementName, List<String> selectors, ElementType type, String metadata,
+                             List<String> parameters, List<String> frames, boolean postback) {
+        if (selectors == null || selectors.isEmpty()) {
+            throw new IllegalArgumentException("'locator' field is null or empty for element: " + elementName);
+        }
+        for (String selector : selectors) {
+            if (selector == null || selector.isEmpty()) {
+                throw new IllegalArgumentException("'locator' field is null or empty for element: " + elementName);
+            }
+        }
+        this.elementName = elementName;
+        this.selectors = Collections.unmodifiableList(new ArrayList<>(selectors));
+        this.type = type == null ? ElementType.UNKNOWN : type;
+        this.metadata = metadata;
+        this.parameters = parameters == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(parameters));
+        this.frames = frames == null || frames.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(frames));
+        this.postback = postback;
+
+        if (this.parameters.isEmpty()) {
+            this.templates = null;
+            this.instances = null;
+        } else {
+            List<LocatorTemplate> compiled = new ArrayList<>(selectors.size());
+            for (String selector : selectors) {
+                compiled.add(LocatorTemplate.compile(selector, this.parameters));
+            }
+            for (int i = 0; i < this.parameters.size(); i++) {
+                int argumentIndex = i;
+                if (compiled.stream().noneMatch(template -> template.uses(argumentIndex))) {
+                    throw new IllegalArgumentException("Parameter '" + this.parameters.get(i) + "' is not used by the locator of element: " + elementName);
+                }
+            }
+            this.templates = compiled;
+            this.instances = new ConcurrentHashMap<>();
+        }
+    }
+
+    public String getElementName() {
+        return elementName;
+    }
+
+    /**
+     * @return The primary (first declared) selector.
+     */
+    public String getSelector() {
+        return selectors.get(0);
+    }
+
+    /**
+     * @return All candidate selectors in declared order.
+     */
+    public List<String> getSelectors() {
+        return selectors;
+    }
+
+    public ElementType getType() {
+        return type;
+    }
+
+    /**
+     * @return Free-text description of the element, or null if none is declared.
+     */
+    public String getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * @return Names of the template parameters; empty if the definition is not a template.
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * @return Selectors of the frames hosting the element, outermost first; empty for the main frame.
+     */
+    public List<String> getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return true if changing the element's value, or clicking it, triggers a server postback that
+     * re-renders the form.
+     */
+    public boolean isPostback() {
+        return postback;
+    }
+
+    /**
+     * @return true if the definition is a template that needs arguments.
+     */
+    public boolean isTemplate() {
+        return templates != null;
+    }
+
+    /**
+     * Expands this template with the given arguments. Instances are cached per argument tuple,
+     * so repeated references to the same instance neither expand nor allocate again.
+     *
+     * @param arguments Arguments in declared parameter order.
+     * @return The plain definition with the arguments substituted.
+     * @throws IllegalArgumentException If this is not a template or the argument count does not match.
+     */
+    public LocatorDefinition instantiate(List<String> arguments) {
+        if (templates == null || arguments.size() != parameters.size()) {
+            throw new IllegalArgumentException("Element " + elementName + " expects arguments " + parameters + " but got: " + arguments);
+        }
+        LocatorDefinition instance = instances.get(arguments);
+        if (instance == null) {
+            instance = instances.computeIfAbsent(arguments, this::expand);
+        }
+        return instance;
+    }
+
+    private LocatorDefinition expand(List<String> arguments) {
+        List<String> expanded = new ArrayList<>(templates.size());
+        for (LocatorTemplate template : templates) {
+            expanded.add(template.expand(arguments));
+        }
+        return new LocatorDefinition(elementName, expanded, type, metadata, null, frames, postback);
+    }
+
+    /**
+     * @return true if fallback selectors are declared besides the primary one.
+     */
+    public boolean hasFallbacks() {
+        return selectors.size() > 1;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeUTF(elementName);
+        out.writeShort(selectors.size());
+        for (String selector : selectors) {
+            out.writeUTF(selector);
+        }
+        out.writeUTF(type.name());
+        out.writeUTF(metadata == null ? "" : metadata);
+        out.writeShort(parameters.size());
+        for (String parameter : parameters) {
+            out.writeUTF(parameter);
+        }
+        out.writeShort(frames.size());
+        for (String frame : frames) {
+            out.writeUTF(frame);
+        }
+        out.writeBoolean(postback);
+    }
+
+    static LocatorDefinition readFrom(DataInput in) throws IOException {
+        String elementName = in.readUTF();
+        int selectorCount = in.readUnsignedShort();
+        List<String> selectors = new ArrayList<>(selectorCount);
+        for (int i = 0; i < selectorCount; i++) {
+            selectors.add(in.readUTF());
+        }
+        ElementType type = ElementType.valueOf(in.readUTF());
+        String metadata = in.readUTF();
+        int parameterCount = in.readUnsignedShort();
+        List<String> parameters = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            parameters.add(in.readUTF());
+        }
+        int frameCount = in.readUnsignedShort();
+        List<String> frames = new ArrayList<>(frameCount);
+        for (int i = 0; i < frameCount; i++) {
+            frames.add(in.readUTF());
+        }
+        boolean postback = in.readBoolean();
+        return new LocatorDefinition(elementName, selectors, type, metadata.isEmpty() ? null : metadata, parameters, frames, postback);
+    }
+
+    @Override
+    public String toString() {
+        return elementName + (parameters.isEmpty() ? "" : "(" + String.join(", ", parameters) + ")") + selectors;
+    }
+}
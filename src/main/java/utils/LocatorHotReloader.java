@@ -0,0 +1,104 @@
+package utils;
+
+import configurations.EnvironmentConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Development mode that watches the locator YAML directory and swaps edited pages into the
+ * {@link LocatorPageManager} while browser sessions stay open.
+ * <p>
+ * Disabled by default. Enable it with {@code locators.hotReload=true} in config.properties or as a
+ * system property; {@code locators.hotReload.dir} sets the watched directory. A file that fails to
+ * parse is reported and the page keeps its previous definitions.
+ */
+public final class LocatorHotReloader implements Runnable {
+    private static final Logger logger = Logger.getLogger(LocatorHotReloader.class.getName());
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Path directory;
+    private final WatchService watchService;
+
+    private LocatorHotReloader(Path directory, WatchService watchService) {
+        this.directory = directory;
+        this.watchService = watchService;
+    }
+
+    /**
+     * Starts watching the locator directory on a daemon thread if hot reload is enabled.
+     */
+    static void startIfEnabled() {
+        if (!EnvironmentConfig.getBooleanProperty("locators.hotReload", false)) {
+            return;
+        }
+        Path directory = Paths.get(EnvironmentConfig.getProperty("locators.hotReload.dir", "src/main/resources/locatorpages"));
+        if (!Files.isDirectory(directory)) {
+            logger.warning("Locator hot reload disabled - directory not found: " + directory.toAbsolutePath());
+            return;
+        }
+
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            Thread watcher = new Thread(new LocatorHotReloader(directory, watchService), "locator-hot-reload");
+            watcher.setDaemon(true);
+            watcher.start();
+            logger.info("Locator hot reload watching: " + directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warning("Locator hot reload disabled - cannot watch " + directory.toAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                // Let editors finish writing before reading, and coalesce their repeated events
+                Thread.sleep(SETTLE_MILLIS);
+
+                Set<Path> changedFiles = new LinkedHashSet<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path && event.context().toString().endsWith(".yaml")) {
+                        changedFiles.add(directory.resolve((Path) event.context()));
+                    }
+                }
+                key.reset();
+
+                for (Path changedFile : changedFiles) {
+                    reload(changedFile);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reload(Path yamlFile) {
+        String pageName = yamlFile.getFileName().toString().replace(".yaml", "");
+        if (!Files.exists(yamlFile)) {
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(yamlFile)) {
+            Map<String, LocatorDefinition> pageDefinitions = YamlParser.parseYaml(inputStream, yamlFile.toString());
+            LocatorPageManager.reloadPage(pageName, pageDefinitions);
+            logger.info("Reloaded locator page: " + pageName + " (" + pageDefinitions.size() + " elements)");
+        } catch (Exception e) {
+            logger.warning("Ignoring invalid locator page " + yamlFile + " - keeping previous definitions: " + e.getMessage());
+        }
+    }
+}
@@ -1,72 +1,403 @@
 package utils;
 
+import com.microsoft.playwright.FrameLocator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Locator;
 
-import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages locators initialization and element retrieval.
+ * <p>
+ * Locators are registered per page (one page per YAML file) so that elements sharing a name
+ * across pages, such as {@code common.searchButton} and {@code businessownersline.searchButton},
+ * never overwrite each other. Page names are matched case-insensitively against the YAML file name.
+ * <p>
+ * A page's locator definitions are loaded lazily on the first reference to that page, from the
+ * {@link LocatorCatalog} or its YAML file, and are then shared by all page objects and threads.
+ * <p>
+ * Definitions are {@link LocatorDefinition}s holding one or more candidate selectors; the
+ * Playwright Locator objects created from those selectors are
+ * bound to a single Playwright Page and cached per Page, so that test classes running in parallel
+ * on their own pages never share Locator instances. A Page's cached Locators are released when
+ * the Page closes. Elements declaring a frame chain are bound inside that frame; the Page's
+ * FrameLocator for each chain is created once and cached alongside its Locators.
+ * <p>
+ * With {@link LocatorHotReloader} enabled, edited YAML pages replace their loaded definitions at
+ * runtime; Locators for changed selectors are bound anew on their next use.
  */
 public class LocatorPageManager {
-    private static final Map<String, Locator> locators = new ConcurrentHashMap<>();
-    private static Page page;
+    private static final String LOCATOR_PAGES_DIR = "locatorpages";
+
+    private static final Map<String, Map<String, LocatorDefinition>> definitions = new ConcurrentHashMap<>();
+    private static final Map<Page, Map<List<String>, FrameScope>> boundLocators = new ConcurrentHashMap<>();
+    private static volatile Map<String, String> pageNames;
 
     /**
-     * Initializes all page objects from YAML files in the resources/locators directory.
+     * Retrieves the Playwright Locator object for the primary selector of the specified element of
+     * a page, bound to the given Playwright page. The page's locator definitions are loaded if this
+     * is the first reference to it.
+     *
+     * @param page        The Playwright page the locator is bound to.
+     * @param pageName    The name of the page (YAML file) the element belongs to.
+     * @param elementName The name of the element whose locator is to be fetched.
+     * @return Playwright Locator object.
+     * @throws IllegalArgumentException If the page or the element is not found.
      */
-    public static void initializeAllPages(Page page) {
-        try {
-            LocatorPageManager.page = page;
-            // Get all YAML files from the resources/locators directory
-            File locatorsDir = Paths.get(Objects.requireNonNull(LocatorPageManager.class.getClassLoader().getResource("locatorpages")).toURI()).toFile();
-
-            if (locatorsDir.exists() && locatorsDir.isDirectory()) {
-                File[] yamlFiles = locatorsDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".yaml"));
-
-                if (yamlFiles != null) {
-                    for (File yamlFile : yamlFiles) {
-                        String pageName = yamlFile.getName().replace(".yaml", "");
-                        initializePage(pageName);
-                    }
+    public static Locator getLocator(Page page, String pageName, String elementName) {
+        LocatorDefinition definition = getDefinition(pageName, elementName);
+        return bind(page, definition.getFrames(), definition.getSelector());
+    }
+
+    /**
+     * Retrieves the definition of the specified element of a page.
+     *
+     * @param pageName    The name of the page (YAML file) the element belongs to.
+     * @param elementName The name of the element.
+     * @return The element's locator definition.
+     * @throws IllegalArgumentException If the page or the element is not found.
+     */
+    public static LocatorDefinition getDefinition(String pageName, String elementName) {
+        return getDefinition(pageName, elementName, Collections.emptyList());
+    }
+
+    /**
+     * Retrieves the definition of the specified element of a page, expanding it with the given
+     * arguments if the element is a locator template.
+     *
+     * @param pageName    The name of the page (YAML file) the element belongs to.
+     * @param elementName The name of the element.
+     * @param arguments   Template arguments; empty for plain elements.
+     * @return The element's locator definition.
+     * @throws IllegalArgumentException If the page or the element is not found, or the arguments
+     *                                  do not match the element's template parameters.
+     */
+    public static LocatorDefinition getDefinition(String pageName, String elementName, List<String> arguments) {
+        LocatorDefinition definition = getDefinitions(pageName).get(elementName);
+        if (definition == null) {
+            throw new IllegalArgumentException("Locator not found for element: " + elementName + " in page: " + pageName);
+        }
+        if (definition.isTemplate() || !arguments.isEmpty()) {
+            return definition.instantiate(arguments);
+        }
+        return definition;
+    }
+
+    /**
+     * Returns the Locator for a selector in the main frame of the given Playwright page, creating
+     * and caching it on first use. Locators are keyed by selector, so a changed definition binds a
+     * new Locator.
+     *
+     * @param page     The Playwright page the locator is bound to.
+     * @param selector The selector of the locator.
+     * @return Playwright Locator object.
+     */
+    static Locator bind(Page page, String selector) {
+        return bind(page, Collections.emptyList(), selector);
+    }
+
+    /**
+     * Returns the Locator for a selector inside a frame of the given Playwright page, creating and
+     * caching it on first use.
+     *
+     * @param page     The Playwright page the locator is bound to.
+     * @param frames   Selectors of the frames hosting the element, outermost first; empty for the main frame.
+     * @param selector The selector of the locator.
+     * @return Playwright Locator object.
+     */
+    static Locator bind(Page page, List<String> frames, String selector) {
+        return frameScope(page, frames).locator(selector);
+    }
+
+    /**
+     * Returns the FrameLocator of a frame chain of the given Playwright page, created once per page.
+     *
+     * @param page   The Playwright page.
+     * @param frames Selectors of the nested frames, outermost first; at least one.
+     * @return Playwright FrameLocator object.
+     */
+    static FrameLocator bindFrame(Page page, List<String> frames) {
+        if (frames.isEmpty()) {
+            throw new IllegalArgumentException("Frame chain cannot be empty.");
+        }
+        return frameScope(page, frames).frameLocator;
+    }
+
+    /**
+     * Evaluates a JavaScript function taking one argument in the main frame of a page, or inside
+     * the innermost frame of a frame chain.
+     *
+     * @param page     The Playwright page.
+     * @param frames   Frame chain, outermost first; empty for the main frame.
+     * @param function JavaScript function of one argument.
+     * @param arg      Argument passed to the function.
+     * @return The function's result.
+     */
+    static Object evaluate(Page page, List<String> frames, String function, Object arg) {
+        if (frames.isEmpty()) {
+            return page.evaluate(function, arg);
+        }
+        return bind(page, frames, ":root").evaluate("(root, arg) => (" + function + ")(arg)", arg);
+    }
+
+    private static FrameScope frameScope(Page page, List<String> frames) {
+        Map<List<String>, FrameScope> pageScopes = boundLocators.get(page);
+        if (pageScopes == null) {
+            pageScopes = boundLocators.computeIfAbsent(page, p -> {
+                p.onClose(LocatorPageManager::release);
+                return new ConcurrentHashMap<>();
+            });
+        }
+        FrameScope scope = pageScopes.get(frames);
+        if (scope == null) {
+            scope = pageScopes.computeIfAbsent(frames, f -> new FrameScope(page, f));
+        }
+        return scope;
+    }
+
+    /**
+     * Checks every selector of a locator page against the live DOM of a Playwright page in a
+     * single browser round trip per frame, without waiting for any element.
+     *
+     * @param page     The Playwright page to check against.
+     * @param pageName The name of the page (YAML file) whose selectors are checked.
+     * @return One result per element selector (fallbacks included), ordered by element name and
+     * then declared order. Locator templates are skipped.
+     * @throws IllegalArgumentException If the locator page is not found.
+     */
+    public static List<LocatorScanResult> scan(Page page, String pageName) {
+        Map<List<String>, List<Map<String, String>>> entriesByFrame = new LinkedHashMap<>();
+        for (LocatorDefinition definition : new TreeMap<>(getDefinitions(pageName)).values()) {
+            if (definition.isTemplate()) {
+                continue;
+            }
+            List<Map<String, String>> entries = entriesByFrame.computeIfAbsent(definition.getFrames(), f -> new ArrayList<>());
+            for (String selector : definition.getSelectors()) {
+                Map<String, String> entry = new HashMap<>();
+                entry.put("name", definition.getElementName());
+                entry.put("selector", selector);
+                entries.add(entry);
+            }
+        }
+
+        List<LocatorScanResult> results = new ArrayList<>();
+        for (Map.Entry<List<String>, List<Map<String, String>>> frameEntries : entriesByFrame.entrySet()) {
+            List<?> evaluated = (List<?>) evaluate(page, frameEntries.getKey(), DomScripts.SCAN, frameEntries.getValue());
+            for (Object item : evaluated) {
+                Map<?, ?> result = (Map<?, ?>) item;
+                results.add(new LocatorScanResult((String) result.get("name"), (String) result.get("selector"),
+                        ((Number) result.get("count")).intValue(),
+                        Boolean.TRUE.equals(result.get("visible")),
+                        ((Number) result.get("millis")).doubleValue(),
+                        (String) result.get("error")));
+            }
+        }
+        results.sort(Comparator.comparing(LocatorScanResult::getElementName));
+        return results;
+    }
+
+    /**
+     * Releases the Locators bound to a Playwright page.
+     *
+     * @param page The Playwright page.
+     */
+    static void release(Page page) {
+        boundLocators.remove(page);
+    }
+
+    /**
+     * Returns the number of Playwright pages that currently have bound Locators.
+     *
+     * @return Number of pages with bound Locators.
+     */
+    static int boundPageCount() {
+        return boundLocators.size();
+    }
+
+    /**
+     * Returns the element definitions of a page keyed by element name, loading them on first use.
+     *
+     * @param pageName The name of the page (YAML file).
+     * @return Element definitions of the page.
+     * @throws IllegalArgumentException If the page is not found.
+     */
+    public static Map<String, LocatorDefinition> getDefinitions(String pageName) {
+        String pageKey = pageKey(pageName);
+        Map<String, LocatorDefinition> pageDefinitions = definitions.get(pageKey);
+        if (pageDefinitions == null) {
+            pageDefinitions = definitions.computeIfAbsent(pageKey, LocatorPageManager::loadPage);
+        }
+        return pageDefinitions;
+    }
+
+    /**
+     * Atomically replaces the definitions of a page, e.g. after its YAML file was edited.
+     * Actions started afterwards resolve the new selectors; Locators of unchanged selectors are reused.
+     *
+     * @param pageName        Page name as written in its YAML file name.
+     * @param pageDefinitions New element definitions of the page.
+     */
+    static void reloadPage(String pageName, Map<String, LocatorDefinition> pageDefinitions) {
+        String pageKey = pageKey(pageName);
+        synchronized (LocatorPageManager.class) {
+            Map<String, String> names = getPageNames();
+            if (!pageName.equals(names.get(pageKey))) {
+                Map<String, String> updatedNames = new HashMap<>(names);
+                updatedNames.put(pageKey, pageName);
+                pageNames = Collections.unmodifiableMap(updatedNames);
+            }
+        }
+        definitions.put(pageKey, Collections.unmodifiableMap(new HashMap<>(pageDefinitions)));
+    }
+
+    /**
+     * Loads a page's locator definitions from the {@link LocatorCatalog}, or by parsing its
+     * YAML file when the page is not in the catalog or its YAML changed since the catalog was built.
+     *
+     * @param pageKey Registry key of the page.
+     * @return Element definitions of the page.
+     */
+    private static Map<String, LocatorDefinition> loadPage(String pageKey) {
+        String pageName = getPageNames().get(pageKey);
+        if (pageName == null) {
+            throw new IllegalArgumentException("Locator page not found: " + pageKey);
+        }
+
+        LocatorCatalog catalog = LocatorCatalog.get();
+        Map<String, LocatorDefinition> pageDefinitions = catalog != null ? catalog.getPage(pageName) : null;
+        if (pageDefinitions == null) {
+            pageDefinitions = Collections.unmodifiableMap(YamlParser.parseYamlFile(pageName));
+        }
+        return pageDefinitions;
+    }
+
+    /**
+     * Returns the available page names keyed by registry key, discovered once per process from
+     * the {@link LocatorCatalog} or the YAML files in the resources/locatorpages directory.
+     *
+     * @return Page names keyed by registry key.
+     */
+    private static Map<String, String> getPageNames() {
+        Map<String, String> names = pageNames;
+        if (names == null) {
+            synchronized (LocatorPageManager.class) {
+                names = pageNames;
+                if (names == null) {
+                    names = discoverPageNames();
+                    pageNames = names;
+                    LocatorHotReloader.startIfEnabled();
                 }
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to initialize page objects", e);
         }
+        return names;
     }
 
     /**
-     * Initializes a specific page by loading its locator data from a YAML file.
+     * Discovers the available locator pages. The table of contents of the build-generated
+     * {@link LocatorCatalog} is used when present, so no directory is scanned; pages whose YAML
+     * was edited since the build are still parsed from YAML, but pages added since then need a
+     * rebuild to be found. Otherwise the
+     * resources/locatorpages directory is listed through NIO, which works both for a directory on
+     * the classpath and for a directory inside a jar.
      *
-     * @param pageName Name of the page to initialize.
+     * @return Page names keyed by registry key.
      */
-    public static void initializePage(String pageName) {
-        Map<String, String> locatorStrings = YamlParser.parseYamlFile(pageName);
+    private static Map<String, String> discoverPageNames() {
+        Map<String, String> names = new HashMap<>();
+        LocatorCatalog catalog = LocatorCatalog.get();
+        if (catalog != null) {
+            for (String pageName : catalog.getPageNames()) {
+                names.put(pageKey(pageName), pageName);
+            }
+            return Collections.unmodifiableMap(names);
+        }
+
+        try {
+            URL locatorsUrl = Objects.requireNonNull(LocatorPageManager.class.getClassLoader().getResource(LOCATOR_PAGES_DIR),
+                    "Locator pages directory not found on the classpath: " + LOCATOR_PAGES_DIR);
+            URI locatorsUri = locatorsUrl.toURI();
+
+            if ("jar".equals(locatorsUri.getScheme())) {
+                try (FileSystem jarFileSystem = FileSystems.newFileSystem(locatorsUri, Collections.emptyMap())) {
+                    collectPageNames(jarFileSystem.provider().getPath(locatorsUri), names);
+                } catch (FileSystemAlreadyExistsException e) {
+                    collectPageNames(FileSystems.getFileSystem(locatorsUri).provider().getPath(locatorsUri), names);
+                }
+            } else {
+                collectPageNames(Paths.get(locatorsUri), names);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to discover locator pages", e);
+        }
+        return Collections.unmodifiableMap(names);
+    }
 
-        for (Map.Entry<String, String> entry : locatorStrings.entrySet()) {
-            String elementName = entry.getKey();
-            String locatorValue = entry.getValue();
-            locators.put(elementName, page.locator(locatorValue));
+    private static void collectPageNames(Path locatorsDir, Map<String, String> names) throws IOException {
+        try (DirectoryStream<Path> yamlFiles = Files.newDirectoryStream(locatorsDir, "*.yaml")) {
+            for (Path yamlFile : yamlFiles) {
+                String pageName = yamlFile.getFileName().toString().replace(".yaml", "");
+                String previous = names.put(pageKey(pageName), pageName);
+                if (previous != null) {
+                    throw new IllegalStateException("Duplicate locator page name: " + previous + " and " + pageName);
+                }
+            }
         }
     }
 
     /**
-     * Retrieves the pre-configured Playwright Locator object for the specified element.
+     * Normalizes a page name into its registry key.
      *
-     * @param element The name of the element whose locator is to be fetched.
-     * @return Playwright Locator object.
-     * @throws IllegalArgumentException If the element is not found.
+     * @param pageName Page name as written in an element reference or YAML file name.
+     * @return Case-insensitive registry key for the page.
+     */
+    static String pageKey(String pageName) {
+        return pageName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Locators of one frame of a page: the frame's FrameLocator (null for the main frame) and the
+     * Locators bound inside it, keyed by selector.
      */
-    public static Locator getLocator(String element) {
-        Locator locator = locators.get(element);
-        if (locator == null) {
-            throw new IllegalArgumentException("Locator not found for element: " + element);
+    private static final class FrameScope {
+        private final Page page;
+        private final FrameLocator frameLocator;
+        private final Map<String, Locator> locators = new ConcurrentHashMap<>();
+
+        private FrameScope(Page page, List<String> frames) {
+            FrameLocator frame = null;
+            for (String frameSelector : frames) {
+                frame = frame == null ? page.frameLocator(frameSelector) : frame.frameLocator(frameSelector);
+            }
+            this.page = page;
+            this.frameLocator = frame;
+        }
+
+        private Locator locator(String selector) {
+            Locator locator = locators.get(selector);
+            if (locator == null) {
+                locator = locators.computeIfAbsent(selector, s -> frameLocator == null ? page.locator(s) : frameLocator.locator(s));
+            }
+            return locator;
         }
-        return locator;
     }
-}
\ No newline at end of file
+}
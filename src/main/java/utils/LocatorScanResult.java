@@ -0,0 +1,72 @@
+package utils;
+
+/**
+ * Result of checking one locator selector against the live DOM, see
+ * {@link LocatorPageManager#scan(com.microsoft.playwright.Page, String)}.
+ */
+public class LocatorScanResult {
+    private final String elementName;
+    private final String selector;
+    private final int matchCount;
+    private final boolean visible;
+    private final double resolutionMillis;
+    private final String error;
+
+    public LocatorScanResult(String elementName, String selector, int matchCount, boolean visible, double resolutionMillis, String error) {
+        this.elementName = elementName;
+        this.selector = selector;
+        this.matchCount = matchCount;
+        this.visible = visible;
+        this.resolutionMillis = resolutionMillis;
+        this.error = error;
+    }
+
+    public String getElementName() {
+        return elementName;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    /**
+     * @return Number of DOM elements the selector matched.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * @return true if the first matching element is visible.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * @return Time the browser took to resolve the selector, in milliseconds.
+     */
+    public double getResolutionMillis() {
+        return resolutionMillis;
+    }
+
+    /**
+     * @return Why the selector could not be evaluated, or null.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return true if the selector could be evaluated and matched exactly one element.
+     */
+    public boolean isHealthy() {
+        return error == null && matchCount == 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [%s]: %d match(es), %s, %.3f ms%s", elementName, selector, matchCount,
+                visible ? "visible" : "not visible", resolutionMillis, error != null ? ", error: " + error : "");
+    }
+}
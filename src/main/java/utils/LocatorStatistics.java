@@ -0,0 +1,165 @@
+package utils;
+
+import configurations.EnvironmentConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Success statistics of locator selectors, used to rank the candidate selectors of a
+ * {@link LocatorDefinition}.
+ * <p>
+ * Per selector, records how often it resolved its element (hits), how often it did not (misses)
+ * and the time taken to resolve on hits. Statistics are read from the file named by
+ * {@code locators.stats.file} on first use and written back when the JVM exits, so rankings
+ * carry over between runs.
+ */
+public final class LocatorStatistics {
+    private static final Logger logger = Logger.getLogger(LocatorStatistics.class.getName());
+
+    private static final Path STATS_FILE = Paths.get(EnvironmentConfig.getProperty("locators.stats.file", "locator-stats.properties"));
+    private static final Map<String, SelectorStats> stats = load();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(LocatorStatistics::save, "locator-statistics-writer"));
+    }
+
+    private LocatorStatistics() {
+    }
+
+    /**
+     * Records that a selector resolved its element.
+     *
+     * @param selector     The selector.
+     * @param elapsedNanos Time taken to resolve the element, in nanoseconds.
+     */
+    public static void recordHit(String selector, long elapsedNanos) {
+        SelectorStats selectorStats = statsOf(selector);
+        selectorStats.hits.increment();
+        selectorStats.hitNanos.add(elapsedNanos);
+    }
+
+    /**
+     * Records that a selector did not resolve its element.
+     *
+     * @param selector The selector.
+     */
+    public static void recordMiss(String selector) {
+        statsOf(selector).misses.increment();
+    }
+
+    /**
+     * Orders candidate selectors by success rate, then by mean resolution time. Selectors
+     * without statistics rank in the middle, and ties keep their declared order, so a
+     * definition without history is tried exactly as written.
+     *
+     * @param selectors Candidate selectors in declared order.
+     * @return The selectors, best first.
+     */
+    public static List<String> rank(List<String> selectors) {
+        if (selectors.size() < 2) {
+            return selectors;
+        }
+        List<String> ranked = new ArrayList<>(selectors);
+        ranked.sort(Comparator.comparingDouble(LocatorStatistics::successRate).reversed()
+                .thenComparingDouble(LocatorStatistics::meanHitNanos));
+        return ranked;
+    }
+
+    /**
+     * Returns the smoothed success rate of a selector: (hits + 1) / (hits + misses + 2), which is
+     * 0.5 for a selector that has never been tried.
+     *
+     * @param selector The selector.
+     * @return Success rate between 0 and 1.
+     */
+    static double successRate(String selector) {
+        SelectorStats selectorStats = stats.get(selector);
+        if (selectorStats == null) {
+            return 0.5;
+        }
+        long hits = selectorStats.hits.sum();
+        return (hits + 1.0) / (hits + selectorStats.misses.sum() + 2.0);
+    }
+
+    private static double meanHitNanos(String selector) {
+        SelectorStats selectorStats = stats.get(selector);
+        long hits = selectorStats == null ? 0 : selectorStats.hits.sum();
+        return hits == 0 ? Double.MAX_VALUE : (double) selectorStats.hitNanos.sum() / hits;
+    }
+
+    private static SelectorStats statsOf(String selector) {
+        SelectorStats selectorStats = stats.get(selector);
+        if (selectorStats == null) {
+            selectorStats = stats.computeIfAbsent(selector, s -> new SelectorStats());
+        }
+        return selectorStats;
+    }
+
+    /**
+     * Reads the statistics file. Each entry maps a selector to "hits,misses,hitNanos".
+     * A missing or unreadable file starts the statistics empty.
+     */
+    private static Map<String, SelectorStats> load() {
+        Map<String, SelectorStats> loaded = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(STATS_FILE)) {
+            return loaded;
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(STATS_FILE)) {
+            properties.load(inputStream);
+            for (String selector : properties.stringPropertyNames()) {
+                String[] values = properties.getProperty(selector).split(",");
+                SelectorStats selectorStats = new SelectorStats();
+                selectorStats.hits.add(Long.parseLong(values[0]));
+                selectorStats.misses.add(Long.parseLong(values[1]));
+                selectorStats.hitNanos.add(Long.parseLong(values[2]));
+                loaded.put(selector, selectorStats);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Ignoring unreadable locator statistics " + STATS_FILE.toAbsolutePath() + ": " + e.getMessage());
+            loaded.clear();
+        }
+        return loaded;
+    }
+
+    private static void save() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        for (Map.Entry<String, SelectorStats> entry : stats.entrySet()) {
+            SelectorStats selectorStats = entry.getValue();
+            properties.setProperty(entry.getKey(), selectorStats.hits.sum() + "," + selectorStats.misses.sum() + "," + selectorStats.hitNanos.sum());
+        }
+        try {
+            Path parent = STATS_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream outputStream = Files.newOutputStream(STATS_FILE)) {
+                properties.store(outputStream, "Locator selector statistics: hits,misses,hitNanos");
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to write locator statistics " + STATS_FILE.toAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    private static final class SelectorStats {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder hitNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,89 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A selector with named placeholders, e.g. {@code //div[contains(text(), '{coverage}')]},
+ * compiled once into alternating literal segments and argument references so that expanding it
+ * is a single pass over pre-split parts. Placeholders naming an undeclared parameter are kept
+ * as literal text.
+ */
+final class LocatorTemplate {
+    private final String[] literals;
+    private final int[] argumentIndexes;
+    private final int literalLength;
+
+    private LocatorTemplate(String[] literals, int[] argumentIndexes) {
+        this.literals = literals;
+        this.argumentIndexes = argumentIndexes;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a selector template.
+     *
+     * @param selector   Selector containing {@code {parameter}} placeholders.
+     * @param parameters Declared parameter names, in argument order.
+     * @return The compiled template.
+     */
+    static LocatorTemplate compile(String selector, List<String> parameters) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> argumentIndexes = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < selector.length()) {
+            int open = selector.indexOf('{', position);
+            int close = open < 0 ? -1 : selector.indexOf('}', open + 1);
+            int argumentIndex = close < 0 ? -1 : parameters.indexOf(selector.substring(open + 1, close));
+            if (argumentIndex < 0) {
+                int end = open < 0 ? selector.length() : open + 1;
+                literal.append(selector, position, end);
+                position = end;
+                continue;
+            }
+            literal.append(selector, position, open);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            argumentIndexes.add(argumentIndex);
+            position = close + 1;
+        }
+        literals.add(literal.toString());
+        return new LocatorTemplate(literals.toArray(new String[0]), argumentIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @param argumentIndex Index of a declared parameter.
+     * @return true if the template references the parameter.
+     */
+    boolean uses(int argumentIndex) {
+        for (int index : argumentIndexes) {
+            if (index == argumentIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Substitutes the arguments into the template.
+     *
+     * @param arguments Arguments in declared parameter order.
+     * @return The selector.
+     */
+    String expand(List<String> arguments) {
+        int length = literalLength;
+        for (int index : argumentIndexes) {
+            length += arguments.get(index).length();
+        }
+        StringBuilder selector = new StringBuilder(length);
+        for (int i = 0; i < argumentIndexes.length; i++) {
+            selector.append(literals[i]).append(arguments.get(argumentIndexes[i]));
+        }
+        return selector.append(literals[argumentIndexes.length]).toString();
+    }
+}
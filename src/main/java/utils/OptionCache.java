@@ -0,0 +1,144 @@
+package utils;
+
+import com.microsoft.playwright.Page;
+import configurations.EnvironmentConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Option lists of the dropdowns of a page, so that Guidewire typelists (states, gender, marital
+ * status, phone type), which do not change within a session, are scanned once instead of on every
+ * selection.
+ * <p>
+ * Options are cached per element, template arguments included, and dropped whenever a frame of
+ * the page navigates. Every use checks in the browser, in the same round trip as the selection
+ * itself, that the dropdown still has the cached number of options; if not, it is scanned again.
+ * Caching is switched off with {@code options.cache=false}.
+ * <p>
+ * Playwright delivers navigation events on the thread calling into it, so like the page it
+ * observes, a cache must only be used by one thread at a time.
+ */
+public final class OptionCache {
+    private static final Logger logger = Logger.getLogger(OptionCache.class.getName());
+
+    private static final boolean ENABLED = EnvironmentConfig.getBooleanProperty("options.cache", true);
+
+    private static final Map<Page, OptionCache> caches = new ConcurrentHashMap<>();
+
+    private final Map<String, Options> options = new HashMap<>();
+
+    /**
+     * How a requested option is matched: by label, by value, or by either.
+     */
+    enum Match {
+        LABEL, VALUE, ANY
+    }
+
+    private OptionCache(Page page) {
+        page.onFrameNavigated(frame -> invalidate());
+    }
+
+    /**
+     * Returns the option cache of a page, registering its navigation listener on first use.
+     *
+     * @param page The Playwright page.
+     * @return The page's cache.
+     */
+    public static OptionCache of(Page page) {
+        OptionCache cache = caches.get(page);
+        if (cache == null) {
+            cache = caches.computeIfAbsent(page, p -> {
+                p.onClose(caches::remove);
+                return new OptionCache(p);
+            });
+        }
+        return cache;
+    }
+
+    /**
+     * @return true if dropdown options are cached; caches are only obtained if so.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Drops all cached option lists of the page.
+     */
+    public void invalidate() {
+        if (!options.isEmpty()) {
+            if (logger.isLoggable(Level.FINE)) logger.fine("Dropping cached options of " + options.size() + " dropdown(s)");
+            options.clear();
+        }
+    }
+
+    /**
+     * @param element The dropdown.
+     * @return The cached option labels, or null if none are cached.
+     */
+    public List<String> labels(ElementInfo element) {
+        Options cached = options.get(element.toString());
+        return cached == null ? null : Collections.unmodifiableList(cached.labels);
+    }
+
+    /**
+     * @param element The dropdown.
+     * @return The cached number of options, or -1 if none are cached.
+     */
+    int count(ElementInfo element) {
+        Options cached = options.get(element.toString());
+        return cached == null ? -1 : cached.labels.size();
+    }
+
+    /**
+     * @param element The dropdown.
+     * @param match   How the key is matched.
+     * @param key     Label or value of the option.
+     * @return Index of the first cached option matching the key, or -1 if there is none.
+     */
+    int indexOf(ElementInfo element, Match match, String key) {
+        Options cached = options.get(element.toString());
+        if (cached == null) {
+            return -1;
+        }
+        for (int i = 0; i < cached.labels.size(); i++) {
+            if ((match != Match.VALUE && cached.labels.get(i).equals(key)) || (match != Match.LABEL && cached.values.get(i).equals(key))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Caches the options of a dropdown as scanned in the browser.
+     *
+     * @param element The dropdown.
+     * @param scanned Options as {label, value} maps, in document order.
+     */
+    void put(ElementInfo element, List<?> scanned) {
+        Options scannedOptions = new Options(scanned.size());
+        for (Object item : scanned) {
+            Map<?, ?> option = (Map<?, ?>) item;
+            scannedOptions.labels.add((String) option.get("label"));
+            scannedOptions.values.add((String) option.get("value"));
+        }
+        options.put(element.toString(), scannedOptions);
+    }
+
+    private static final class Options {
+        private final List<String> labels;
+        private final List<String> values;
+
+        private Options(int size) {
+            labels = new ArrayList<>(size);
+            values = new ArrayList<>(size);
+        }
+    }
+}
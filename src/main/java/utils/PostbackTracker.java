@@ -0,0 +1,147 @@
+package utils;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import configurations.EnvironmentConfig;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tracks Guidewire server postbacks of a page so actions can wait exactly until the server round
+ * trip triggered by the previous action has completed, instead of polling for selectors.
+ * <p>
+ * Requests whose URL contains {@code postback.urlPattern} (PolicyCenter.do by default) are
+ * counted from the moment the browser sends them until they finish or fail. Waiting for the page
+ * to settle costs no browser round trip when no postback was seen since the last wait; otherwise
+ * it lasts until no postback is in flight and, if {@code postback.busySelector} is set, the busy
+ * indicator it selects is hidden. Tracking is switched off with {@code postback.sync=false}.
+ * <p>
+ * Events are only delivered while a Playwright call is running, so the request of a postback
+ * triggered by an action may not have been seen yet when the action returns. Actions known to
+ * post back, such as button clicks and changes to fields declared with {@code postback: true},
+ * therefore wait up to {@code postback.grace.ms} for it to start ({@link #awaitPostback(long, int)}). A grace window of 0 skips that wait, leaving a late
+ * postback to be noticed only once its event arrives during a later call.
+ * <p>
+ * Playwright delivers request events on the thread calling into it, so like the page it
+ * observes, a tracker must only be used by one thread at a time.
+ */
+public final class PostbackTracker {
+    private static final Logger logger = Logger.getLogger(PostbackTracker.class.getName());
+
+    private static final boolean ENABLED = EnvironmentConfig.getBooleanProperty("postback.sync", true);
+    private static final String URL_PATTERN = EnvironmentConfig.getProperty("postback.urlPattern", "PolicyCenter.do");
+    private static final String BUSY_SELECTOR = EnvironmentConfig.getProperty("postback.busySelector", "");
+    private static final int GRACE_MILLIS = Integer.parseInt(EnvironmentConfig.getProperty("postback.grace.ms", "250"));
+
+    private static final Map<Page, PostbackTracker> trackers = new ConcurrentHashMap<>();
+
+    private final Page page;
+    private final Set<Request> inFlight = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long started;
+    private long settled;
+
+    private PostbackTracker(Page page) {
+        this.page = page;
+        page.onRequest(this::requestStarted);
+        page.onRequestFinished(inFlight::remove);
+        page.onRequestFailed(inFlight::remove);
+    }
+
+    /**
+     * Returns the tracker of a page, registering its request listeners on first use.
+     *
+     * @param page The Playwright page.
+     * @return The page's tracker.
+     */
+    public static PostbackTracker of(Page page) {
+        PostbackTracker tracker = trackers.get(page);
+        if (tracker == null) {
+            tracker = trackers.computeIfAbsent(page, p -> {
+                p.onClose(trackers::remove);
+                return new PostbackTracker(p);
+            });
+        }
+        return tracker;
+    }
+
+    /**
+     * @return true if actions should wait for postbacks to settle; trackers are only obtained if so.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    private void requestStarted(Request request) {
+        if (request.url().contains(URL_PATTERN)) {
+            inFlight.add(request);
+            started++;
+        }
+    }
+
+    /**
+     * @return Number of postbacks the page has started so far.
+     */
+    public long started() {
+        return started;
+    }
+
+    /**
+     * @return true if a postback of the page is in flight.
+     */
+    public boolean isBusy() {
+        return !inFlight.isEmpty();
+    }
+
+    /**
+     * Waits until the postbacks started since the last wait have completed. Returns at once, without
+     * a browser round trip, if there were none.
+     *
+     * @param timeout Wait timeout in milliseconds.
+     * @throws TimeoutError If a postback is still in flight when the timeout elapses.
+     */
+    public void awaitIdle(int timeout) {
+        if (started == settled) {
+            return;
+        }
+        if (!inFlight.isEmpty()) {
+            if (logger.isLoggable(Level.FINE)) logger.fine("Waiting for " + inFlight.size() + " postback(s) to complete");
+            page.waitForCondition(inFlight::isEmpty, new Page.WaitForConditionOptions().setTimeout(timeout));
+        }
+        if (!BUSY_SELECTOR.isEmpty()) {
+            page.locator(BUSY_SELECTOR).first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.HIDDEN).setTimeout(timeout));
+        }
+        settled = started;
+    }
+
+    /**
+     * Waits for the postback expected from an action that has just been performed, then for the
+     * page to settle. If no postback starts within {@code postback.grace.ms}, the action is
+     * assumed not to have posted back.
+     *
+     * @param startedBefore Value of {@link #started()} before the action.
+     * @param timeout       Wait timeout in milliseconds.
+     */
+    public void awaitPostback(long startedBefore, int timeout) {
+        if (started == startedBefore) {
+            if (GRACE_MILLIS <= 0) {
+                return;
+            }
+            try {
+                page.waitForCondition(() -> started != startedBefore, new Page.WaitForConditionOptions().setTimeout(GRACE_MILLIS));
+            } catch (TimeoutError e) {
+                if (logger.isLoggable(Level.FINE)) logger.fine("No postback started within " + GRACE_MILLIS + " ms");
+                return;
+            }
+        }
+        awaitIdle(timeout);
+    }
+}
@@ -0,0 +1,118 @@
+package utils;
+
+import com.microsoft.playwright.Page;
+import configurations.EnvironmentConfig;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+/**
+ * Decides whether a failed element action is retried, and backs off before the retry.
+ * <p>
+ * How often a failure may be retried is the smaller of two limits. The action limit is
+ * {@code retry.action.<ACTION>}, or {@code retry.action.default} if that is not set. The
+ * exception limit is {@code retry.exception.<class name>} of the most specific configured class
+ * of the first exception in the cause chain that has one; failures without a configured
+ * exception are not retried. For example, Playwright errors such as detached elements are retried
+ * while its timeouts, which already waited in full, are not:
+ * <pre>
+ * retry.exception.com.microsoft.playwright.PlaywrightException=2
+ * retry.exception.com.microsoft.playwright.TimeoutError=0
+ * </pre>
+ * Retry n waits a random time up to {@code retry.backoff.ms} * 2^(n-1), at most
+ * {@code retry.backoff.max.ms}. All retries of a test draw from a budget of {@code retry.budget}
+ * retries per thread, restored by {@link #resetBudget()}. Every retry is counted in
+ * {@link ActionMetrics}.
+ */
+public final class RetryPolicy {
+    private static final Logger logger = Logger.getLogger(RetryPolicy.class.getName());
+
+    private static final int DEFAULT_ACTION_ATTEMPTS = Integer.parseInt(EnvironmentConfig.getProperty("retry.action.default", "2"));
+    private static final long BACKOFF_MILLIS = Long.parseLong(EnvironmentConfig.getProperty("retry.backoff.ms", "250"));
+    private static final long MAX_BACKOFF_MILLIS = Long.parseLong(EnvironmentConfig.getProperty("retry.backoff.max.ms", "2000"));
+    private static final int BUDGET = Integer.parseInt(EnvironmentConfig.getProperty("retry.budget", "10"));
+
+    private static final Map<ActionType, Integer> actionRetries = new EnumMap<>(ActionType.class);
+    private static final Map<Class<?>, Integer> exceptionRetries = new ConcurrentHashMap<>();
+    private static final ThreadLocal<int[]> remainingBudget = ThreadLocal.withInitial(() -> new int[]{BUDGET});
+
+    static {
+        for (ActionType action : ActionType.values()) {
+            actionRetries.put(action, Integer.parseInt(EnvironmentConfig.getProperty("retry.action." + action, String.valueOf(DEFAULT_ACTION_ATTEMPTS))));
+        }
+    }
+
+    private RetryPolicy() {
+    }
+
+    /**
+     * Decides whether a failed attempt of an action is retried and, if so, backs off and counts
+     * the retry.
+     *
+     * @param page    The page the action runs on, used to wait while backing off.
+     * @param action  The action type.
+     * @param element The element acted on.
+     * @param failure The failure of the attempt.
+     * @param attempt Number of the failed attempt, starting at 1.
+     * @return true if the action should be attempted again.
+     */
+    public static boolean retry(Page page, ActionType action, ElementInfo element, Exception failure, int attempt) {
+        int allowed = Math.min(actionRetries.get(action), exceptionRetries(failure));
+        int[] budget = remainingBudget.get();
+        if (attempt > allowed || budget[0] <= 0) {
+            return false;
+        }
+        budget[0]--;
+        long backoff = ThreadLocalRandom.current().nextLong(Math.min(MAX_BACKOFF_MILLIS, BACKOFF_MILLIS << Math.min(attempt - 1, 20)) + 1);
+        logger.warning("Retrying " + action + " on element: " + element + " in " + backoff + " ms after attempt " + attempt
+                + " failed: " + failure.getMessage());
+        if (ActionMetrics.isEnabled()) {
+            ActionMetrics.recordRetry(action, element);
+        }
+        if (backoff > 0) {
+            page.waitForTimeout(backoff);
+        }
+        return true;
+    }
+
+    /**
+     * Restores the calling thread's retry budget, e.g. when a new test starts.
+     */
+    public static void resetBudget() {
+        remainingBudget.get()[0] = BUDGET;
+    }
+
+    /**
+     * @return Retries left in the calling thread's budget.
+     */
+    public static int remainingBudget() {
+        return remainingBudget.get()[0];
+    }
+
+    private static int exceptionRetries(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            Integer retries = exceptionRetries.computeIfAbsent(cause.getClass(), RetryPolicy::configuredRetries);
+            if (retries >= 0) {
+                return retries;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the retries configured for the most specific class of an exception's hierarchy, or
+     * -1 if none is configured.
+     */
+    private static int configuredRetries(Class<?> exceptionClass) {
+        for (Class<?> type = exceptionClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            String retries = EnvironmentConfig.getProperty("retry.exception." + type.getName(), null);
+            if (retries != null) {
+                return Integer.parseInt(retries.trim());
+            }
+        }
+        return -1;
+    }
+}
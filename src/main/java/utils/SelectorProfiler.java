@@ -0,0 +1,192 @@
+package utils;
+
+import com.microsoft.playwright.Page;
+import configurations.EnvironmentConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in profiler measuring how long locator selectors take to resolve in the browser.
+ * <p>
+ * Enabled with {@code locators.profile=true}. Every selector an action resolves is then timed in
+ * the element's frame, together with that frame's DOM size, at the cost of one extra browser
+ * round trip per action. Timings are aggregated per selector over the run and, when the JVM exits, written as a
+ * report ranked by mean resolution time to the file named by {@code locators.profile.report}.
+ * Selectors using patterns known to be slow on large Guidewire grids are flagged in the report.
+ */
+public final class SelectorProfiler {
+    private static final Logger logger = Logger.getLogger(SelectorProfiler.class.getName());
+
+    private static final boolean ENABLED = EnvironmentConfig.getBooleanProperty("locators.profile", false);
+    private static final Path REPORT_FILE = Paths.get(EnvironmentConfig.getProperty("locators.profile.report", "target/selector-profile.txt"));
+
+    private static final Map<String, SelectorProfile> profiles = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(SelectorProfiler::writeReport, "selector-profile-writer"));
+        }
+    }
+
+    private SelectorProfiler() {
+    }
+
+    /**
+     * @return true if selector profiling is enabled.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Times the selectors of an element in the given page, in one browser round trip inside the
+     * element's frame, and adds the timings to the run's profile.
+     *
+     * @param page       The Playwright page to measure in.
+     * @param element    Description of the element the selectors belong to.
+     * @param definition Definition of the element.
+     */
+    public static void record(Page page, String element, LocatorDefinition definition) {
+        Map<?, ?> evaluated = (Map<?, ?>) LocatorPageManager.evaluate(page, definition.getFrames(), DomScripts.PROFILE, definition.getSelectors());
+        int domSize = ((Number) evaluated.get("domSize")).intValue();
+        for (Object item : (List<?>) evaluated.get("results")) {
+            Map<?, ?> result = (Map<?, ?>) item;
+            if (result.get("error") != null) {
+                continue;
+            }
+            String selector = (String) result.get("selector");
+            SelectorProfile profile = profiles.get(selector);
+            if (profile == null) {
+                profile = profiles.computeIfAbsent(selector, s -> new SelectorProfile(element));
+            }
+            profile.add(((Number) result.get("millis")).doubleValue(), domSize);
+        }
+    }
+
+    /**
+     * Times every selector of a locator page in the given page and adds the timings to the run's
+     * profile. Locator templates are skipped. Can be called with profiling disabled;
+     * {@link #report()} then returns the result, but no report file is written at exit.
+     *
+     * @param page     The Playwright page to measure in.
+     * @param pageName The name of the page (YAML file) whose selectors are timed.
+     */
+    public static void recordPage(Page page, String pageName) {
+        for (LocatorDefinition definition : LocatorPageManager.getDefinitions(pageName).values()) {
+            if (definition.isTemplate()) {
+                continue;
+            }
+            record(page, definition.getElementName() + " in page: " + pageName, definition);
+        }
+    }
+
+    /**
+     * Formats the run's profile: one line per selector, most expensive first, with sample count,
+     * mean and maximum resolution time, mean DOM size and slow-pattern flags.
+     *
+     * @return The report text.
+     */
+    public static String report() {
+        List<Map.Entry<String, SelectorProfile>> ranked = new ArrayList<>(new TreeMap<>(profiles).entrySet());
+        ranked.sort(Comparator.comparingDouble((Map.Entry<String, SelectorProfile> entry) -> entry.getValue().meanMillis()).reversed());
+
+        StringBuilder report = new StringBuilder();
+        report.append("Selector profile: ").append(ranked.size()).append(" selectors ranked by mean resolution time\n");
+        report.append(String.format("%4s %10s %10s %8s %9s  %s%n", "rank", "mean ms", "max ms", "samples", "mean DOM", "element / selector [flags]"));
+        int rank = 1;
+        for (Map.Entry<String, SelectorProfile> entry : ranked) {
+            SelectorProfile profile = entry.getValue();
+            String flags = slowPatterns(entry.getKey());
+            report.append(String.format("%4d %10.3f %10.3f %8d %9.0f  %s%n", rank++, profile.meanMillis(), profile.maxMillis.get(),
+                    profile.samples.sum(), profile.meanDomSize(), profile.element));
+            report.append(String.format("%45s  %s%s%n", "", entry.getKey(), flags.isEmpty() ? "" : "  [" + flags + "]"));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Lists the patterns of a selector that force a scan of large parts of the DOM: XPath
+     * text() containment and ancestor axes, and CSS attribute substring, prefix or suffix matches.
+     *
+     * @param selector The selector.
+     * @return Comma-separated flags, empty if none apply.
+     */
+    static String slowPatterns(String selector) {
+        List<String> flags = new ArrayList<>();
+        if (selector.contains("contains(text()") || selector.contains("contains(.")) {
+            flags.add("xpath-text-contains");
+        }
+        if (selector.contains("ancestor::")) {
+            flags.add("xpath-ancestor-axis");
+        }
+        if (selector.startsWith("//*") || selector.contains("//*[")) {
+            flags.add("xpath-wildcard-descendant");
+        }
+        if (selector.contains("*=")) {
+            flags.add("css-attribute-substring");
+        }
+        if (selector.contains("^=") || selector.contains("$=")) {
+            flags.add("css-attribute-affix");
+        }
+        return String.join(", ", flags);
+    }
+
+    private static void writeReport() {
+        if (profiles.isEmpty()) {
+            return;
+        }
+        try {
+            Path parent = REPORT_FILE.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(REPORT_FILE, report().getBytes(StandardCharsets.UTF_8));
+            logger.info("Selector profile written to " + REPORT_FILE.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warning("Failed to write selector profile " + REPORT_FILE.toAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    private static final class SelectorProfile {
+        private final String element;
+        private final LongAdder samples = new LongAdder();
+        private final DoubleAdder totalMillis = new DoubleAdder();
+        private final DoubleAccumulator maxMillis = new DoubleAccumulator(Math::max, 0);
+        private final LongAdder totalDomSize = new LongAdder();
+
+        private SelectorProfile(String element) {
+            this.element = element;
+        }
+
+        private void add(double millis, int domSize) {
+            samples.increment();
+            totalMillis.add(millis);
+            maxMillis.accumulate(millis);
+            totalDomSize.add(domSize);
+        }
+
+        private double meanMillis() {
+            long count = samples.sum();
+            return count == 0 ? 0 : totalMillis.sum() / count;
+        }
+
+        private double meanDomSize() {
+            long count = samples.sum();
+            return count == 0 ? 0 : (double) totalDomSize.sum() / count;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the open tabs of a browser context, maintained from Playwright's page events instead
+ * of polling the context.
+ * <p>
+ * Tabs are added when the context reports a new page and removed when the page closes, keeping
+ * their opening order and the tab that opened them. Lookups by index, URL and opener are
+ * in-memory. Titles are cached and invalidated whenever a tab's main frame navigates; a title
+ * lookup only asks the browser for titles when no cached title matches, first for the invalidated
+ * ones, then for all, so tabs whose title changed without navigating are still found.
+ * <p>
+ * Playwright delivers page events on the thread calling into it, so like the context it indexes,
+ * a registry must only be used by one thread at a time.
+ */
+public final class TabRegistry {
+    private static final Logger logger = Logger.getLogger(TabRegistry.class.getName());
+
+    private static final Map<BrowserContext, TabRegistry> registries = new ConcurrentHashMap<>();
+
+    private final List<Tab> tabs = new ArrayList<>();
+    private long opened;
+
+    private TabRegistry(BrowserContext context) {
+        context.onPage(this::add);
+        for (Page page : context.pages()) {
+            add(page);
+        }
+    }
+
+    /**
+     * Returns the registry of a browser context, indexing its open pages and subscribing to its
+     * page events on first use.
+     *
+     * @param context The browser context.
+     * @return The context's registry.
+     */
+    public static TabRegistry of(BrowserContext context) {
+        TabRegistry registry = registries.get(context);
+        if (registry == null) {
+            registry = registries.computeIfAbsent(context, c -> {
+                c.onClose(registries::remove);
+                return new TabRegistry(c);
+            });
+        }
+        return registry;
+    }
+
+    private void add(Page page) {
+        if (find(page) != null) {
+            return;
+        }
+        Tab tab = new Tab(page, page.opener(), ++opened);
+        tabs.add(tab);
+        page.onClose(closed -> tabs.remove(tab));
+        page.onFrameNavigated(frame -> {
+            if (frame.parentFrame() == null) {
+                tab.title = null;
+            }
+        });
+        if (logger.isLoggable(Level.FINE)) logger.fine("Tab opened: " + page.url());
+    }
+
+    private Tab find(Page page) {
+        for (Tab tab : tabs) {
+            if (tab.page == page) {
+                return tab;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The open tabs in the order they were opened.
+     */
+    public List<Page> pages() {
+        List<Page> pages = new ArrayList<>(tabs.size());
+        for (Tab tab : tabs) {
+            pages.add(tab.page);
+        }
+        return pages;
+    }
+
+    /**
+     * @param index Position of the tab in opening order, starting from 0.
+     * @return The tab, or null if fewer tabs are open.
+     */
+    public Page byIndex(int index) {
+        return index >= 0 && index < tabs.size() ? tabs.get(index).page : null;
+    }
+
+    /**
+     * @param url The exact URL.
+     * @return The first tab showing the URL, or null.
+     */
+    public Page byUrl(String url) {
+        for (Tab tab : tabs) {
+            if (url.equals(tab.page.url())) {
+                return tab.page;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param title The exact title.
+     * @return The first tab with the title, or null.
+     */
+    public Page byTitle(String title) {
+        for (Tab tab : tabs) {
+            if (title.equals(tab.title)) {
+                return tab.page;
+            }
+        }
+        for (Tab tab : tabs) {
+            if (tab.title == null && title.equals(tab.refreshTitle())) {
+                return tab.page;
+            }
+        }
+        for (Tab tab : tabs) {
+            if (title.equals(tab.refreshTitle())) {
+                return tab.page;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param opener A tab.
+     * @return The open tabs the given tab opened, in opening order.
+     */
+    public List<Page> openedBy(Page opener) {
+        List<Page> pages = new ArrayList<>();
+        for (Tab tab : tabs) {
+            if (tab.opener == opener) {
+                pages.add(tab.page);
+            }
+        }
+        return pages;
+    }
+
+    /**
+     * @return Number of tabs opened so far, to pass to {@link #awaitPopup(Page, long, int)}.
+     */
+    public long opened() {
+        return opened;
+    }
+
+    /**
+     * Waits for a tab opened after a given point by a given tab, or without an opener, as
+     * Guidewire document popups opened with "noopener" are. Returns as soon as the context reports
+     * the page, without polling.
+     *
+     * @param opener       The tab expected to open the popup.
+     * @param openedBefore Value of {@link #opened()} before the popup was triggered.
+     * @param timeout      Wait timeout in milliseconds.
+     * @return The popup.
+     * @throws com.microsoft.playwright.TimeoutError If no such tab opens within the timeout.
+     */
+    public Page awaitPopup(Page opener, long openedBefore, int timeout) {
+        Page popup = popup(opener, openedBefore);
+        if (popup == null) {
+            opener.waitForCondition(() -> popup(opener, openedBefore) != null, new Page.WaitForConditionOptions().setTimeout(timeout));
+            popup = popup(opener, openedBefore);
+        }
+        return popup;
+    }
+
+    private Page popup(Page opener, long openedBefore) {
+        for (Tab tab : tabs) {
+            if (tab.sequence > openedBefore && (tab.opener == opener || tab.opener == null)) {
+                return tab.page;
+            }
+        }
+        return null;
+    }
+
+    private static final class Tab {
+        private final Page page;
+        private final Page opener;
+        private final long sequence;
+        private String title;
+
+        private Tab(Page page, Page opener, long sequence) {
+            this.page = page;
+            this.opener = opener;
+            this.sequence = sequence;
+        }
+
+        private String refreshTitle() {
+            title = page.title();
+            return title;
+        }
+    }
+}
@@ -2,28 +2,109 @@ package utils;
 
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.*;
+import configurations.EnvironmentConfig;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Helper class for interacting with page elements.
+ * <p>
+ * Elements are referenced as "pageName.elementName". Every element action also accepts a
+ * pre-parsed {@link ElementInfo}, which callers repeating actions on the same element can keep
+ * to skip the name lookup entirely.
+ * <p>
+ * Actions are checked against the element's declared {@link ElementType}: an action that cannot
+ * apply, such as selecting an option of a button, fails without touching the browser, and
+ * actions on inputs and menu items skip preparation steps their Playwright call already performs.
+ * How much preparation happens at all is set by the {@link ActionabilityStrategy}.
+ * <p>
+ * Without an explicit timeout, the wait for an element before an action, and a click itself,
+ * last as long as the element's history in {@link ElementTimeouts} suggests rather than a fixed
+ * 30 seconds. Other actions that leave waiting to Playwright under the
+ * {@link ActionabilityStrategy} use Playwright's default timeout.
+ * <p>
+ * Before an element is resolved, the Guidewire postbacks triggered by previous actions are
+ * waited for through the page's {@link PostbackTracker}. Clicks on buttons, and clicks and
+ * selections on elements declared with {@code postback: true}, also wait for the postback they
+ * trigger themselves, since its request event may only arrive after the Playwright call has
+ * returned.
+ * <p>
+ * Elements declaring fallback selectors are resolved by trying their candidates in the order
+ * ranked by {@link LocatorStatistics}; the outcome of each resolution feeds back into the ranking.
+ * With {@link SelectorProfiler} enabled, the selectors of every resolved element are also timed
+ * in the browser.
+ * <p>
+ * Every action, batched fills and reads and frame and tab switches included, is recorded in the
+ * calling thread's {@link ActionTrace}. Attempts failing with a transient error are retried as
+ * the {@link RetryPolicy} allows before the action fails.
+ * <p>
+ * Dropdown selections and option queries reuse the option lists cached in the page's
+ * {@link OptionCache} while the dropdown still has the cached number of options.
+ * <p>
+ * Tabs are looked up in the context's {@link TabRegistry}, which follows page events instead of
+ * asking every tab for its title. Each instance drives its own Playwright page and keeps its own
+ * stack of previously active tabs, so helpers of tests running in parallel never redirect each
+ * other. Like the Playwright page it wraps, an instance must only be used by one thread at a time.
  */
 public class WebInteractionHelper extends LocatorPageManager {
     private static final Logger logger = Logger.getLogger(WebInteractionHelper.class.getName());
     private static final int DEFAULT_TIMEOUT = 30000;
-    protected static Page page;
+    private static final Set<ActionType> POSTBACK_ACTIONS = EnumSet.of(ActionType.CLICK, ActionType.DOUBLE_CLICK, ActionType.SELECT);
+    private static final ActionabilityStrategy DEFAULT_ACTIONABILITY =
+            ActionabilityStrategy.fromName(EnvironmentConfig.getProperty("actionability.strategy", "strict"));
+    protected Page page;
+    private final Deque<Page> previousTabs = new ArrayDeque<>();
+    private ActionabilityStrategy actionability = DEFAULT_ACTIONABILITY;
 
     /**
-     * Creates a new WebInteractionHelper instance and initializes all pages and locators.
+     * Creates a new WebInteractionHelper instance. Locators are loaded lazily, page by page,
+     * on first use.
      *
      * @param page Playwright Page instance
      */
     public WebInteractionHelper(Page page) {
         this.page = page;
-        LocatorPageManager.initializeAllPages(page); // Initialize all pages and locators
+    }
+
+    /**
+     * Sets how elements are prepared before actions by this helper, overriding the configured
+     * {@code actionability.strategy}.
+     *
+     * @param actionability The strategy.
+     */
+    public void setActionabilityStrategy(ActionabilityStrategy actionability) {
+        this.actionability = actionability;
+    }
+
+    /**
+     * @return How elements are prepared before actions by this helper.
+     */
+    public ActionabilityStrategy getActionabilityStrategy() {
+        return actionability;
+    }
+
+    /**
+     * Returns the Playwright page this helper currently acts on, i.e. the tab last switched to.
+     *
+     * @return The current Playwright page.
+     */
+    public Page getPage() {
+        return page;
     }
 
 
@@ -36,18 +117,147 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return Playwright Locator object.
      */
     protected Locator getLocator(String element, WaitForSelectorState state, int timeout) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        logger.fine("Getting locator for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
+        return getLocator(ElementInfo.of(element), state, timeout);
+    }
 
+    /**
+     * Gets the Playwright Locator object for this element after waiting for it to be in a specific state.
+     * For elements with fallback selectors, the first ranked candidate present in the page is used.
+     *
+     * @param elementInfo Pre-parsed element to retrieve locator for.
+     * @param state       State to wait for (VISIBLE, HIDDEN, ATTACHED, DETACHED).
+     * @param timeout     Wait timeout in milliseconds.
+     * @return Playwright Locator object.
+     */
+    protected Locator getLocator(ElementInfo elementInfo, WaitForSelectorState state, int timeout) {
+        if (logger.isLoggable(Level.FINE)) logger.fine("Getting locator for element: " + elementInfo);
+        return locate(elementInfo, elementInfo.getDefinition(), state, true, timeout);
+    }
+
+    /**
+     * Gets the Playwright Locator object for this element, prepared for an action. The action is
+     * checked against the element's declared {@link ElementType} before any browser round trip.
+     * The element is first waited for to be visible and scrolled into view only where both the
+     * {@link ActionabilityStrategy} and the element type call for it.
+     *
+     * @param elementInfo Pre-parsed element to retrieve locator for.
+     * @param action      Action about to be performed on the element.
+     * @param timeout     Wait timeout in milliseconds.
+     * @return Playwright Locator object.
+     * @throws IllegalArgumentException If the action does not apply to the element's type.
+     */
+    protected Locator getLocator(ElementInfo elementInfo, ActionType action, int timeout) {
+        LocatorDefinition definition = elementInfo.getDefinition();
+        ElementType type = definition.getType();
+        if (!type.supports(action)) {
+            throw new IllegalArgumentException("Action " + action + " is not supported on " + type + " element: " + elementInfo);
+        }
+        if (logger.isLoggable(Level.FINE)) logger.fine("Getting locator for " + action + " on element: " + elementInfo);
+        boolean waitForVisible = actionability.waitsForVisibility(action) && type.waitsForVisibility(action);
+        boolean scroll = actionability.scrollsIntoView(action) && type.scrollsIntoView(action);
+        return locate(elementInfo, definition, waitForVisible ? WaitForSelectorState.VISIBLE : null, scroll, timeout);
+    }
+
+    /**
+     * Resolves the Locator of a definition, once the postbacks of previous actions have completed
+     * (see {@link PostbackTracker}), optionally waiting for a state and scrolling it into view.
+     * Postbacks are waited for with the default timeout; the given timeout only bounds the wait for
+     * the element itself, and the time the element took to reach the state feeds the element's
+     * {@link ElementTimeouts}.
+     *
+     * @param elementInfo Element being located, for messages.
+     * @param definition  The element's definition.
+     * @param state       State to wait for, or null to leave waiting to the action itself.
+     * @param scroll      Whether to scroll the element into view.
+     * @param timeout     Wait timeout in milliseconds.
+     * @return Playwright Locator object.
+     */
+    private Locator locate(ElementInfo elementInfo, LocatorDefinition definition, WaitForSelectorState state, boolean scroll, int timeout) {
+        settlePostbacks();
         try {
-            Locator locator = elementInfo.getLocator();
-            locator.waitFor(new Locator.WaitForOptions().setState(state).setTimeout(timeout));
-            locator.scrollIntoViewIfNeeded();
+            long start = System.nanoTime();
+            Locator locator = resolveLocator(definition, state, timeout);
+            if (state != null) {
+                locator.waitFor(new Locator.WaitForOptions().setState(state).setTimeout(timeout));
+                ElementTimeouts.record(elementInfo.getKey(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            ActionTrace.ready();
+            if (SelectorProfiler.isEnabled()) {
+                SelectorProfiler.record(page, elementInfo.toString(), definition);
+            }
+            if (scroll) {
+                locator.scrollIntoViewIfNeeded();
+            }
             return locator;
         } catch (Exception e) {
-            logger.severe("Timeout waiting for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " to be in state: " + state);
-            throw new RuntimeException("Timeout waiting for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " to be in state: " + state, e);
+            if (e instanceof TimeoutError) {
+                ElementTimeouts.recordTimeout(elementInfo.getKey(), timeout);
+            }
+            logger.severe("Timeout waiting for element: " + elementInfo + " to be in state: " + state);
+            throw new RuntimeException("Timeout waiting for element: " + elementInfo + " to be in state: " + state, e);
+        }
+    }
+
+    /**
+     * Selects the Locator of a definition. Definitions with a single selector, and waits for an
+     * element to disappear, use the primary selector. Otherwise the ranked candidates are checked
+     * for presence without waiting; if none is present yet, a single wait for whichever candidate
+     * appears first precedes a second check.
+     *
+     * @param definition The element definition.
+     * @param state      State to wait for, or null if the action waits itself.
+     * @param timeout    Wait timeout in milliseconds.
+     * @return Playwright Locator object of the selected candidate.
+     */
+    private Locator resolveLocator(LocatorDefinition definition, WaitForSelectorState state, int timeout) {
+        if (!definition.hasFallbacks() || state == WaitForSelectorState.HIDDEN || state == WaitForSelectorState.DETACHED) {
+            return bind(page, definition.getFrames(), definition.getSelector());
+        }
+
+        List<String> frames = definition.getFrames();
+        List<String> candidates = LocatorStatistics.rank(definition.getSelectors());
+        long start = System.nanoTime();
+        Locator locator = firstPresentCandidate(frames, candidates, start);
+        if (locator == null) {
+            Locator anyCandidate = bind(page, frames, candidates.get(0));
+            for (int i = 1; i < candidates.size(); i++) {
+                anyCandidate = anyCandidate.or(bind(page, frames, candidates.get(i)));
+            }
+            try {
+                anyCandidate.first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED).setTimeout(timeout));
+            } catch (TimeoutError e) {
+                candidates.forEach(LocatorStatistics::recordMiss);
+                throw e;
+            }
+            locator = firstPresentCandidate(frames, candidates, start);
+        }
+        if (locator == null) {
+            throw new IllegalStateException("No selector matched for element: " + definition);
+        }
+        return locator;
+    }
+
+    /**
+     * Returns the Locator of the first candidate present in the page and records the outcome:
+     * a hit for that candidate and a miss for every candidate ranked before it.
+     *
+     * @param frames     Frame chain hosting the element; empty for the main frame.
+     * @param candidates Ranked candidate selectors.
+     * @param start      {@link System#nanoTime()} at which resolution started.
+     * @return Playwright Locator object, or null if no candidate is present.
+     */
+    private Locator firstPresentCandidate(List<String> frames, List<String> candidates, long start) {
+        for (int i = 0; i < candidates.size(); i++) {
+            Locator candidate = bind(page, frames, candidates.get(i));
+            if (candidate.count() > 0) {
+                LocatorStatistics.recordHit(candidates.get(i), System.nanoTime() - start);
+                for (int j = 0; j < i; j++) {
+                    LocatorStatistics.recordMiss(candidates.get(j));
+                }
+                return candidate;
+            }
         }
+        return null;
     }
 
     /**
@@ -57,7 +267,130 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return Playwright Locator object.
      */
     protected Locator getElementLocator(String element) {
-        return getLocator(element, WaitForSelectorState.VISIBLE, DEFAULT_TIMEOUT);
+        return getElementLocator(ElementInfo.of(element));
+    }
+
+    /**
+     * Gets the Playwright Locator object for this element with the element's learned timeout
+     * (see {@link ElementTimeouts}) and scroll into view.
+     *
+     * @param elementInfo Pre-parsed element to retrieve locator for.
+     * @return Playwright Locator object.
+     */
+    protected Locator getElementLocator(ElementInfo elementInfo) {
+        return getLocator(elementInfo, WaitForSelectorState.VISIBLE, ElementTimeouts.timeoutFor(elementInfo.getKey(), DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * Gets the Playwright Locator object for this element, prepared for an action with the
+     * element's learned timeout.
+     *
+     * @param elementInfo Pre-parsed element to retrieve locator for.
+     * @param action      Action about to be performed on the element.
+     * @return Playwright Locator object.
+     * @throws IllegalArgumentException If the action does not apply to the element's type.
+     */
+    protected Locator getElementLocator(ElementInfo elementInfo, ActionType action) {
+        return getLocator(elementInfo, action, ElementTimeouts.timeoutFor(elementInfo.getKey(), DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * Performs an element action: records it in the {@link ActionTrace}, retries failed attempts
+     * as the {@link RetryPolicy} allows and wraps the final failure in a RuntimeException.
+     * Actions expected to post back then wait for their postback, see
+     * {@link #awaitsPostback(ActionType, ElementInfo)}.
+     *
+     * @param action      The action type.
+     * @param elementInfo The element acted on; null for page-level actions.
+     * @param description Builds what the action does, e.g. "click on element: X"; only called when the
+     *                    start is logged or the action fails, so no message is formatted otherwise.
+     * @param body        The action.
+     * @return The action's result.
+     */
+    private <T> T perform(ActionType action, ElementInfo elementInfo, Supplier<String> description, Supplier<T> body) {
+        return perform(action, elementInfo, description, body, true, null);
+    }
+
+    private void perform(ActionType action, ElementInfo elementInfo, Supplier<String> description, Runnable body) {
+        perform(action, elementInfo, description, () -> {
+            body.run();
+            return null;
+        }, true, null);
+    }
+
+    /**
+     * Performs a boolean element query like {@link #perform(ActionType, ElementInfo, Supplier, Supplier)},
+     * but answers a fallback value instead of failing.
+     */
+    private boolean probe(ActionType action, ElementInfo elementInfo, Supplier<String> description, boolean fallback, Supplier<Boolean> body) {
+        return perform(action, elementInfo, description, body, false, fallback);
+    }
+
+    private <T> T perform(ActionType action, ElementInfo elementInfo, Supplier<String> description, Supplier<T> body, boolean rethrow, T fallback) {
+        long trace = ActionTrace.begin(action, elementInfo);
+        try {
+            if (logger.isLoggable(Level.FINE)) logger.fine("Starting to " + description.get());
+            PostbackTracker tracker = PostbackTracker.isEnabled() && awaitsPostback(action, elementInfo) ? PostbackTracker.of(page) : null;
+            long startedBefore = 0;
+            if (tracker != null) {
+                tracker.awaitIdle(DEFAULT_TIMEOUT);
+                startedBefore = tracker.started();
+            }
+            T result;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    result = body.get();
+                    break;
+                } catch (RuntimeException e) {
+                    if (!RetryPolicy.retry(page, action, elementInfo, e, attempt)) {
+                        throw e;
+                    }
+                }
+            }
+            if (tracker != null) {
+                tracker.awaitPostback(startedBefore, DEFAULT_TIMEOUT);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            ActionTrace.fail(trace);
+            String failure = "Failed to " + description.get();
+            logger.severe(failure + " - " + e.getMessage());
+            if (!rethrow) {
+                return fallback;
+            }
+            throw new RuntimeException(failure, e);
+        } finally {
+            ActionTrace.end(trace);
+        }
+    }
+
+    /**
+     * Tells whether an action is expected to post back, so that it waits up to
+     * {@code postback.grace.ms} for its postback to start (see
+     * {@link PostbackTracker#awaitPostback(long, int)}): clicks on buttons, and clicks and
+     * selections on elements declared with {@code postback: true}. Other actions leave the
+     * postbacks they may trigger to the wait before the next element is resolved.
+     *
+     * @param action      The action type.
+     * @param elementInfo The element acted on; null for page-level actions.
+     * @return true if the action waits for its own postback.
+     */
+    private static boolean awaitsPostback(ActionType action, ElementInfo elementInfo) {
+        if (elementInfo == null || !POSTBACK_ACTIONS.contains(action)) {
+            return false;
+        }
+        LocatorDefinition definition = elementInfo.getDefinition();
+        return definition.isPostback() || definition.getType() == ElementType.BUTTON;
+    }
+
+    /**
+     * Checks all locators of a locator page against the current page in one browser round trip.
+     *
+     * @param pageName Name of the locator page (YAML file) to check
+     * @return One result per element with match count, visibility and resolution time
+     */
+    public List<LocatorScanResult> scanLocators(String pageName) {
+        return perform(ActionType.QUERY, null, () -> "scan locators of page: " + pageName, () -> LocatorPageManager.scan(page, pageName));
     }
 
     /**
@@ -67,14 +400,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param timeout Wait timeout in milliseconds
      */
     public void waitForElement(String element, int timeout) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Waiting for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getLocator(element, WaitForSelectorState.VISIBLE, timeout);
-        } catch (Exception e) {
-            logger.severe("Failed to wait for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to wait for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        waitForElement(ElementInfo.of(element), timeout);
+    }
+
+    /**
+     * Waits for an element to be visible on the page.
+     *
+     * @param elementInfo Element to wait for
+     * @param timeout     Wait timeout in milliseconds
+     */
+    public void waitForElement(ElementInfo elementInfo, int timeout) {
+        perform(ActionType.WAIT, elementInfo, () -> "wait for element: " + elementInfo, () -> getLocator(elementInfo, WaitForSelectorState.VISIBLE, timeout));
     }
 
     /**
@@ -83,7 +419,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to wait for
      */
     public void waitForElement(String element) {
-        waitForElement(element, DEFAULT_TIMEOUT);
+        waitForElement(ElementInfo.of(element));
+    }
+
+    /**
+     * Waits for an element to be visible on the page with the element's learned timeout.
+     *
+     * @param elementInfo Element to wait for
+     */
+    public void waitForElement(ElementInfo elementInfo) {
+        waitForElement(elementInfo, ElementTimeouts.timeoutFor(elementInfo.getKey(), DEFAULT_TIMEOUT));
     }
 
     /**
@@ -92,7 +437,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to click on
      */
     public void click(String element) {
-        click(element, DEFAULT_TIMEOUT);
+        click(ElementInfo.of(element));
+    }
+
+    /**
+     * Clicks on the specified element with the element's learned timeout.
+     *
+     * @param elementInfo Element to click on
+     */
+    public void click(ElementInfo elementInfo) {
+        click(elementInfo, ElementTimeouts.timeoutFor(elementInfo.getKey(), DEFAULT_TIMEOUT));
     }
 
     /**
@@ -102,14 +456,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param timeout Wait timeout in milliseconds
      */
     public void click(String element, int timeout) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Clicking on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getLocator(element, WaitForSelectorState.VISIBLE, timeout).click();
-        } catch (Exception e) {
-            logger.severe("Failed to click on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to click on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        click(ElementInfo.of(element), timeout);
+    }
+
+    /**
+     * Clicks on the specified element with custom timeout.
+     *
+     * @param elementInfo Element to click on
+     * @param timeout     Wait timeout in milliseconds
+     */
+    public void click(ElementInfo elementInfo, int timeout) {
+        perform(ActionType.CLICK, elementInfo, () -> "click on element: " + elementInfo, () -> getLocator(elementInfo, ActionType.CLICK, timeout).click(new Locator.ClickOptions().setTimeout(timeout)));
     }
 
     /**
@@ -118,14 +475,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to clear text from
      */
     public void clear(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Clearing text from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).clear();
-        } catch (Exception e) {
-            logger.severe("Failed to clear text from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to clear text from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        clear(ElementInfo.of(element));
+    }
+
+    /**
+     * Clears the text in an input field.
+     *
+     * @param elementInfo Element to clear text from
+     */
+    public void clear(ElementInfo elementInfo) {
+        perform(ActionType.CLEAR, elementInfo, () -> "clear text from element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.CLEAR).clear());
     }
 
     /**
@@ -134,14 +493,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to focus on
      */
     public void focus(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Focusing on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).focus();
-        } catch (Exception e) {
-            logger.severe("Failed to focus on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to focus on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        focus(ElementInfo.of(element));
+    }
+
+    /**
+     * Focuses on the specified element.
+     *
+     * @param elementInfo Element to focus on
+     */
+    public void focus(ElementInfo elementInfo) {
+        perform(ActionType.FOCUS, elementInfo, () -> "focus on element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.FOCUS).focus());
     }
 
     /**
@@ -150,14 +511,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to hover over
      */
     public void hover(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Hovering over element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).hover();
-        } catch (Exception e) {
-            logger.severe("Failed to hover over element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to hover over element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        hover(ElementInfo.of(element));
+    }
+
+    /**
+     * Hovers over the specified element.
+     *
+     * @param elementInfo Element to hover over
+     */
+    public void hover(ElementInfo elementInfo) {
+        perform(ActionType.HOVER, elementInfo, () -> "hover over element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.HOVER).hover());
     }
 
     /**
@@ -167,14 +530,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return true if the element is enabled, false otherwise
      */
     public boolean isEnabled(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Checking if element is enabled: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).isEnabled();
-        } catch (Exception e) {
-            logger.severe("Failed to check if element is enabled: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            return false;
-        }
+        return isEnabled(ElementInfo.of(element));
+    }
+
+    /**
+     * Verifies if an element is enabled.
+     *
+     * @param elementInfo Element to check
+     * @return true if the element is enabled, false otherwise
+     */
+    public boolean isEnabled(ElementInfo elementInfo) {
+        return probe(ActionType.READ, elementInfo, () -> "check if element is enabled: " + elementInfo, false, () -> getElementLocator(elementInfo, ActionType.READ).isEnabled());
     }
 
     /**
@@ -184,14 +550,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return true if the element is checked, false otherwise
      */
     public boolean isChecked(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Checking if element is checked: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).isChecked();
-        } catch (Exception e) {
-            logger.severe("Failed to check if element is checked: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            return false;
-        }
+        return isChecked(ElementInfo.of(element));
+    }
+
+    /**
+     * Verifies if an element is checked (for checkboxes and radio buttons).
+     *
+     * @param elementInfo Element to check
+     * @return true if the element is checked, false otherwise
+     */
+    public boolean isChecked(ElementInfo elementInfo) {
+        return probe(ActionType.READ, elementInfo, () -> "check if element is checked: " + elementInfo, false, () -> getElementLocator(elementInfo, ActionType.READ).isChecked());
     }
 
     /**
@@ -200,14 +569,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to scroll to
      */
     public void scrollToElement(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Scrolling to element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).scrollIntoViewIfNeeded();
-        } catch (Exception e) {
-            logger.severe("Failed to scroll to element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to scroll to element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        scrollToElement(ElementInfo.of(element));
+    }
+
+    /**
+     * Scrolls to the specified element.
+     *
+     * @param elementInfo Element to scroll to
+     */
+    public void scrollToElement(ElementInfo elementInfo) {
+        perform(ActionType.SCROLL, elementInfo, () -> "scroll to element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.SCROLL).scrollIntoViewIfNeeded());
     }
 
     /**
@@ -216,14 +587,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to check
      */
     public void check(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Checking element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).check();
-        } catch (Exception e) {
-            logger.severe("Failed to check element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to check element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        check(ElementInfo.of(element));
+    }
+
+    /**
+     * Checks a checkbox or radio button.
+     *
+     * @param elementInfo Element to check
+     */
+    public void check(ElementInfo elementInfo) {
+        perform(ActionType.CHECK, elementInfo, () -> "check element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.CHECK).check());
     }
 
     /**
@@ -232,14 +605,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to uncheck
      */
     public void uncheck(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Unchecking element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).uncheck();
-        } catch (Exception e) {
-            logger.severe("Failed to uncheck element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to uncheck element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        uncheck(ElementInfo.of(element));
+    }
+
+    /**
+     * Unchecks a checkbox or radio button.
+     *
+     * @param elementInfo Element to uncheck
+     */
+    public void uncheck(ElementInfo elementInfo) {
+        perform(ActionType.UNCHECK, elementInfo, () -> "uncheck element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.UNCHECK).uncheck());
     }
 
     /**
@@ -248,19 +623,23 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to toggle
      */
     public void toggle(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Toggling element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            Locator locator = getElementLocator(element);
+        toggle(ElementInfo.of(element));
+    }
+
+    /**
+     * Toggles a checkbox or radio button.
+     *
+     * @param elementInfo Element to toggle
+     */
+    public void toggle(ElementInfo elementInfo) {
+        perform(ActionType.CHECK, elementInfo, () -> "toggle element: " + elementInfo, () -> {
+            Locator locator = getElementLocator(elementInfo, ActionType.CHECK);
             if (locator.isChecked()) {
                 locator.uncheck();
             } else {
                 locator.check();
             }
-        } catch (Exception e) {
-            logger.severe("Failed to toggle element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to toggle element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        });
     }
 
     /**
@@ -270,14 +649,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return true if visible, false otherwise
      */
     public boolean isVisible(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Checking visibility of element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).isVisible();
-        } catch (Exception e) {
-            logger.severe("Failed to check visibility of element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            return false;
-        }
+        return isVisible(ElementInfo.of(element));
+    }
+
+    /**
+     * Verifies if an element is visible on the page.
+     *
+     * @param elementInfo Element to verify visibility for
+     * @return true if visible, false otherwise
+     */
+    public boolean isVisible(ElementInfo elementInfo) {
+        return probe(ActionType.QUERY, elementInfo, () -> "check visibility of element: " + elementInfo, false, () -> getElementLocator(elementInfo, ActionType.QUERY).isVisible());
     }
 
     /**
@@ -287,14 +669,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param option  Option to select (text)
      */
     public void selectByText(String element, String option) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Selecting option: " + option + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).selectOption(new SelectOption().setLabel(option));
-        } catch (Exception e) {
-            logger.severe("Failed to select option: " + option + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to select option: " + option + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        selectByText(ElementInfo.of(element), option);
+    }
+
+    /**
+     * Selects an option from a dropdown by visible text.
+     *
+     * @param elementInfo Element to select option from
+     * @param option      Option to select (text)
+     */
+    public void selectByText(ElementInfo elementInfo, String option) {
+        perform(ActionType.SELECT, elementInfo, () -> "select option: " + option + " from dropdown: " + elementInfo, () -> selectOption(elementInfo, getElementLocator(elementInfo, ActionType.SELECT), OptionCache.Match.LABEL, option));
     }
 
     /**
@@ -304,14 +689,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param value   Value to select
      */
     public void selectByValue(String element, String value) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Selecting value: " + value + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).selectOption(new SelectOption().setValue(value));
-        } catch (Exception e) {
-            logger.severe("Failed to select value: " + value + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to select value: " + value + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        selectByValue(ElementInfo.of(element), value);
+    }
+
+    /**
+     * Selects an option from a dropdown by value.
+     *
+     * @param elementInfo Element to select option from
+     * @param value       Value to select
+     */
+    public void selectByValue(ElementInfo elementInfo, String value) {
+        perform(ActionType.SELECT, elementInfo, () -> "select value: " + value + " from dropdown: " + elementInfo, () -> selectOption(elementInfo, getElementLocator(elementInfo, ActionType.SELECT), OptionCache.Match.VALUE, value));
     }
 
     /**
@@ -321,14 +709,93 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param index   Index to select
      */
     public void selectByIndex(String element, int index) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Selecting index: " + index + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).selectOption(new SelectOption().setIndex(index));
-        } catch (Exception e) {
-            logger.severe("Failed to select index: " + index + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to select index: " + index + " from dropdown: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
+        selectByIndex(ElementInfo.of(element), index);
+    }
+
+    /**
+     * Selects an option from a dropdown by index.
+     *
+     * @param elementInfo Element to select option from
+     * @param index       Index to select
+     */
+    public void selectByIndex(ElementInfo elementInfo, int index) {
+        perform(ActionType.SELECT, elementInfo, () -> "select index: " + index + " from dropdown: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.SELECT).selectOption(new SelectOption().setIndex(index)));
+    }
+
+    /**
+     * Selects the option of a dropdown matching a key in one script, which uses the option index
+     * cached in the page's {@link OptionCache} while the dropdown still has the cached number of
+     * options and otherwise scans the options again. Options the script cannot select are left to
+     * Playwright, which waits for them to appear.
+     */
+    private void selectOption(ElementInfo elementInfo, Locator locator, OptionCache.Match match, String key) {
+        if (OptionCache.isEnabled()) {
+            OptionCache cache = OptionCache.of(page);
+            int index = cache.indexOf(elementInfo, match, key);
+            Map<String, Object> request = new HashMap<>();
+            request.put("match", match.name());
+            request.put("key", key);
+            request.put("index", index);
+            request.put("count", cache.count(elementInfo));
+            List<?> scanned = (List<?>) locator.evaluate(DomScripts.SELECT_OPTION, request);
+            if (scanned != null) {
+                if (scanned.isEmpty() && index >= 0) {
+                    return;
+                }
+                if (logger.isLoggable(Level.FINE)) logger.fine("Caching " + scanned.size() + " options of dropdown: " + elementInfo);
+                cache.put(elementInfo, scanned);
+                if (cache.indexOf(elementInfo, match, key) >= 0) {
+                    return;
+                }
+            }
         }
+        switch (match) {
+            case LABEL:
+                locator.selectOption(new SelectOption().setLabel(key));
+                break;
+            case VALUE:
+                locator.selectOption(new SelectOption().setValue(key));
+                break;
+            default:
+                locator.selectOption(key);
+        }
+    }
+
+    /**
+     * Retrieves the option labels of a dropdown.
+     *
+     * @param element Dropdown to get options from
+     * @return Option labels in document order; empty if the element is not a dropdown
+     */
+    public List<String> getOptions(String element) {
+        return getOptions(ElementInfo.of(element));
+    }
+
+    /**
+     * Retrieves the option labels of a dropdown. The labels are kept in the page's
+     * {@link OptionCache}, and only transferred again when the dropdown's number of options
+     * changed or the page navigated.
+     *
+     * @param elementInfo Dropdown to get options from
+     * @return Option labels in document order; empty if the element is not a dropdown
+     */
+    public List<String> getOptions(ElementInfo elementInfo) {
+        return perform(ActionType.READ, elementInfo, () -> "get options of dropdown: " + elementInfo, () -> {
+            OptionCache cache = OptionCache.isEnabled() ? OptionCache.of(page) : null;
+            List<?> scanned = (List<?>) getElementLocator(elementInfo, ActionType.READ)
+                    .evaluate(DomScripts.OPTIONS, cache == null ? -1 : cache.count(elementInfo));
+            if (scanned == null) {
+                return cache.labels(elementInfo);
+            }
+            List<String> labels = new ArrayList<>(scanned.size());
+            for (Object option : scanned) {
+                labels.add((String) ((Map<?, ?>) option).get("label"));
+            }
+            if (cache != null) {
+                cache.put(elementInfo, scanned);
+            }
+            return labels;
+        });
     }
 
     /**
@@ -337,14 +804,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to double click on
      */
     public void doubleClick(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Double clicking on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).dblclick();
-        } catch (Exception e) {
-            logger.severe("Failed to double click on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to double click on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        doubleClick(ElementInfo.of(element));
+    }
+
+    /**
+     * Double clicks on the specified element.
+     *
+     * @param elementInfo Element to double click on
+     */
+    public void doubleClick(ElementInfo elementInfo) {
+        perform(ActionType.DOUBLE_CLICK, elementInfo, () -> "double click on element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.DOUBLE_CLICK).dblclick());
     }
 
     /**
@@ -353,14 +822,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to right click on
      */
     public void rightClick(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Right clicking on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).click(new Locator.ClickOptions().setButton(MouseButton.RIGHT));
-        } catch (Exception e) {
-            logger.severe("Failed to right click on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to right click on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        rightClick(ElementInfo.of(element));
+    }
+
+    /**
+     * Right clicks on the specified element.
+     *
+     * @param elementInfo Element to right click on
+     */
+    public void rightClick(ElementInfo elementInfo) {
+        perform(ActionType.RIGHT_CLICK, elementInfo, () -> "right click on element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.RIGHT_CLICK).click(new Locator.ClickOptions().setButton(MouseButton.RIGHT)));
     }
 
     /**
@@ -370,14 +841,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param text    Text to type
      */
     public void type(String element, String text) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Typing text: " + text + " into element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).type(text);
-        } catch (Exception e) {
-            logger.severe("Failed to type text into element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to type text into element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        type(ElementInfo.of(element), text);
+    }
+
+    /**
+     * Types text into the specified element.
+     *
+     * @param elementInfo Element to type text into
+     * @param text        Text to type
+     */
+    public void type(ElementInfo elementInfo, String text) {
+        perform(ActionType.TYPE, elementInfo, () -> "type text into element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.TYPE).type(text));
     }
 
     /**
@@ -387,14 +861,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return Text content of the element
      */
     public String getText(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Getting text from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).textContent();
-        } catch (Exception e) {
-            logger.severe("Failed to get text from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to get text from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        return getText(ElementInfo.of(element));
+    }
+
+    /**
+     * Gets the text content of the specified element.
+     *
+     * @param elementInfo Element to get text from
+     * @return Text content of the element
+     */
+    public String getText(ElementInfo elementInfo) {
+        return perform(ActionType.READ, elementInfo, () -> "get text from element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.READ).textContent());
     }
 
     /**
@@ -405,14 +882,18 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return Attribute value
      */
     public String getAttribute(String element, String attribute) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Getting attribute: " + attribute + " from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).getAttribute(attribute);
-        } catch (Exception e) {
-            logger.severe("Failed to get attribute: " + attribute + " from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to get attribute: " + attribute + " from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        return getAttribute(ElementInfo.of(element), attribute);
+    }
+
+    /**
+     * Gets the value of the specified attribute of the element.
+     *
+     * @param elementInfo Element to get attribute from
+     * @param attribute   Attribute name
+     * @return Attribute value
+     */
+    public String getAttribute(ElementInfo elementInfo, String attribute) {
+        return perform(ActionType.READ, elementInfo, () -> "get attribute: " + attribute + " from element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.READ).getAttribute(attribute));
     }
 
     /**
@@ -423,14 +904,18 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return CSS property value
      */
     public String getCssValue(String element, String cssProperty) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Getting CSS property: " + cssProperty + " from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).evaluate("element => window.getComputedStyle(element).getPropertyValue('" + cssProperty + "')").toString();
-        } catch (Exception e) {
-            logger.severe("Failed to get CSS property: " + cssProperty + " from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to get CSS property: " + cssProperty + " from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        return getCssValue(ElementInfo.of(element), cssProperty);
+    }
+
+    /**
+     * Gets the value of the specified CSS property of the element.
+     *
+     * @param elementInfo Element to get CSS value from
+     * @param cssProperty CSS property name
+     * @return CSS property value
+     */
+    public String getCssValue(ElementInfo elementInfo, String cssProperty) {
+        return perform(ActionType.READ, elementInfo, () -> "get CSS property: " + cssProperty + " from element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.READ).evaluate("element => window.getComputedStyle(element).getPropertyValue('" + cssProperty + "')").toString());
     }
 
     /**
@@ -440,15 +925,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param targetElement Element to drop onto
      */
     public void dragAndDrop(String sourceElement, String targetElement) {
-        ElementInfo sourceElementInfo = new ElementInfo(sourceElement);
-        ElementInfo targetElementInfo = new ElementInfo(targetElement);
-        try {
-            logger.fine("Dragging element: " + sourceElementInfo.getElementName() + " and dropping onto element: " + targetElementInfo.getElementName());
-            getElementLocator(sourceElement).dragTo(getElementLocator(targetElement));
-        } catch (Exception e) {
-            logger.severe("Failed to drag and drop element: " + sourceElementInfo.getElementName() + " onto element: " + targetElementInfo.getElementName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to drag and drop element: " + sourceElementInfo.getElementName() + " onto element: " + targetElementInfo.getElementName(), e);
-        }
+        dragAndDrop(ElementInfo.of(sourceElement), ElementInfo.of(targetElement));
+    }
+
+    /**
+     * Drags an element and drops it onto another element.
+     *
+     * @param sourceElementInfo Element to drag
+     * @param targetElementInfo Element to drop onto
+     */
+    public void dragAndDrop(ElementInfo sourceElementInfo, ElementInfo targetElementInfo) {
+        perform(ActionType.DRAG, sourceElementInfo, () -> "drag and drop element: " + sourceElementInfo.getElementName() + " onto element: " + targetElementInfo.getElementName(), () -> getElementLocator(sourceElementInfo, ActionType.DRAG).dragTo(getElementLocator(targetElementInfo, ActionType.DRAG)));
     }
 
     /**
@@ -458,14 +945,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param filePath Path to the file to upload
      */
     public void uploadFile(String element, String filePath) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Uploading file: " + filePath + " to element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).setInputFiles(Paths.get(filePath));
-        } catch (Exception e) {
-            logger.severe("Failed to upload file: " + filePath + " to element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to upload file: " + filePath + " to element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        uploadFile(ElementInfo.of(element), filePath);
+    }
+
+    /**
+     * Uploads a file to the specified file input element.
+     *
+     * @param elementInfo Element to upload file to
+     * @param filePath    Path to the file to upload
+     */
+    public void uploadFile(ElementInfo elementInfo, String filePath) {
+        perform(ActionType.UPLOAD, elementInfo, () -> "upload file: " + filePath + " to element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.UPLOAD).setInputFiles(Paths.get(filePath)));
     }
 
     /**
@@ -474,14 +964,16 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param element Element to clear file input from
      */
     public void clearFileInput(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Clearing file input for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).setInputFiles(new Path[0]);
-        } catch (Exception e) {
-            logger.severe("Failed to clear file input for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to clear file input for element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        clearFileInput(ElementInfo.of(element));
+    }
+
+    /**
+     * Clears the file input element.
+     *
+     * @param elementInfo Element to clear file input from
+     */
+    public void clearFileInput(ElementInfo elementInfo) {
+        perform(ActionType.UPLOAD, elementInfo, () -> "clear file input for element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.UPLOAD).setInputFiles(new Path[0]));
     }
 
     /**
@@ -491,14 +983,17 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return Number of elements matching the locator
      */
     public int getElementCount(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Getting count of elements: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).count();
-        } catch (Exception e) {
-            logger.severe("Failed to get count of elements: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to get count of elements: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
-        }
+        return getElementCount(ElementInfo.of(element));
+    }
+
+    /**
+     * Gets the count of elements matching the locator.
+     *
+     * @param elementInfo Element to count
+     * @return Number of elements matching the locator
+     */
+    public int getElementCount(ElementInfo elementInfo) {
+        return perform(ActionType.QUERY, elementInfo, () -> "get count of elements: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.QUERY).count());
     }
 
     /**
@@ -508,38 +1003,38 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param keys    Key or combination of keys to press (e.g., "Control+A", "Shift+Tab", "Enter")
      */
     public void pressKey(String element, String keys) {
-        try {
-            if (element != null) {
-                ElementInfo elementInfo = new ElementInfo(element);
-                logger.fine("Pressing key(s): " + keys + " on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-                getElementLocator(element).focus();
-            } else {
-                logger.fine("Pressing key(s): " + keys + " on the page");
+        pressKey(element != null ? ElementInfo.of(element) : null, keys);
+    }
+
+    /**
+     * Simulates the press of a key or combination of keys.
+     *
+     * @param elementInfo Element to focus on before pressing the key (can be null to press on the page)
+     * @param keys        Key or combination of keys to press (e.g., "Control+A", "Shift+Tab", "Enter")
+     */
+    public void pressKey(ElementInfo elementInfo, String keys) {
+        perform(ActionType.PRESS_KEY, elementInfo, () -> "press key(s): " + keys, () -> {
+            if (elementInfo != null) {
+                getElementLocator(elementInfo, ActionType.PRESS_KEY).focus();
             }
             page.keyboard().press(keys);
-        } catch (Exception e) {
-            logger.severe("Failed to press key(s): " + keys + " - " + e.getMessage());
-            throw new RuntimeException("Failed to press key(s): " + keys, e);
-        }
+        });
     }
 
     /**
-     * Switches to a frame using its locator.
+     * Switches to a frame using its locator. The FrameLocator is the one cached for the page,
+     * shared with elements declaring the same frame in their locator YAML.
      *
      * @param frameLocator Locator of the frame to switch to
      */
     public FrameLocator switchToFrame(String frameLocator) {
-        try {
-            logger.fine("Switching to frame: " + frameLocator);
-            FrameLocator frame = page.frameLocator(frameLocator);
+        return perform(ActionType.SWITCH, null, () -> "switch to frame: " + frameLocator, () -> {
+            FrameLocator frame = bindFrame(page, Collections.singletonList(frameLocator));
             if (frame == null) {
                 throw new IllegalArgumentException("Frame not found: " + frameLocator);
             }
             return frame;
-        } catch (Exception e) {
-            logger.severe("Failed to switch to frame: " + frameLocator + " - " + e.getMessage());
-            throw new RuntimeException("Failed to switch to frame: " + frameLocator, e);
-        }
+        });
     }
 
     /**
@@ -548,30 +1043,20 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param frameNameOrUrl Name or URL of the frame to switch to
      */
     public Frame switchToFrameByNameOrUrl(String frameNameOrUrl) {
-        try {
-            logger.fine("Switching to frame by name or URL: " + frameNameOrUrl);
+        return perform(ActionType.SWITCH, null, () -> "switch to frame by name or URL: " + frameNameOrUrl, () -> {
             Frame frame = page.frame(frameNameOrUrl);
             if (frame == null) {
                 throw new IllegalArgumentException("Frame not found: " + frameNameOrUrl);
             }
             return frame;
-        } catch (Exception e) {
-            logger.severe("Failed to switch to frame by name or URL: " + frameNameOrUrl + " - " + e.getMessage());
-            throw new RuntimeException("Failed to switch to frame by name or URL: " + frameNameOrUrl, e);
-        }
+        });
     }
 
     /**
      * Switches back to the main page from a frame.
      */
     public void switchToMainPage() {
-        try {
-            logger.fine("Switching back to the main page");
-            page.mainFrame();
-        } catch (Exception e) {
-            logger.severe("Failed to switch back to the main page - " + e.getMessage());
-            throw new RuntimeException("Failed to switch back to the main page", e);
-        }
+        perform(ActionType.SWITCH, null, () -> "switch back to the main page", () -> page.mainFrame());
     }
 
     /**
@@ -580,13 +1065,7 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return List of Page objects representing open tabs
      */
     public List<Page> getAllTabs() {
-        try {
-            logger.fine("Getting all open tabs");
-            return page.context().pages();
-        } catch (Exception e) {
-            logger.severe("Failed to get all open tabs - " + e.getMessage());
-            throw new RuntimeException("Failed to get all open tabs", e);
-        }
+        return perform(ActionType.QUERY, null, () -> "get all open tabs", () -> tabs().pages());
     }
 
     /**
@@ -595,17 +1074,13 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param index Index of the tab to switch to (starting from 0)
      */
     public void switchToTab(int index) {
-        try {
-            logger.fine("Switching to tab at index: " + index);
-            List<Page> tabs = page.context().pages();
-            if (index >= tabs.size()) {
+        perform(ActionType.SWITCH, null, () -> "switch to tab at index: " + index, () -> {
+            Page tab = tabs().byIndex(index);
+            if (tab == null) {
                 throw new IllegalArgumentException("Tab index out of bounds: " + index);
             }
-            page = tabs.get(index);
-        } catch (Exception e) {
-            logger.severe("Failed to switch to tab at index: " + index + " - " + e.getMessage());
-            throw new RuntimeException("Failed to switch to tab at index: " + index, e);
-        }
+            switchPage(tab);
+        });
     }
 
     /**
@@ -614,54 +1089,32 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param title Title of the tab to switch to
      */
     public void switchToTabByTitle(String title) {
-        try {
-            logger.fine("Switching to tab with title: " + title);
-            List<Page> tabs = page.context().pages();
-            for (Page tab : tabs) {
-                if (title.equals(tab.title())) {
-                    page = tab;
-                    return;
-                }
+        perform(ActionType.SWITCH, null, () -> "switch to tab with title: " + title, () -> {
+            Page tab = tabs().byTitle(title);
+            if (tab == null) {
+                throw new IllegalArgumentException("No tab found with title: " + title);
             }
-            throw new IllegalArgumentException("No tab found with title: " + title);
-        } catch (Exception e) {
-            logger.severe("Failed to switch to tab with title: " + title + " - " + e.getMessage());
-            throw new RuntimeException("Failed to switch to tab with title: " + title, e);
-        }
+            switchPage(tab);
+        });
     }
 
     /**
-     * Returns a list of all open windows (pages).
+     * Returns a list of all open windows (pages). Windows and tabs are the same Playwright pages,
+     * see {@link #getAllTabs()}.
      *
      * @return List of Page objects representing open windows
      */
     public List<Page> getAllWindows() {
-        try {
-            logger.fine("Getting all open windows");
-            return page.context().pages();
-        } catch (Exception e) {
-            logger.severe("Failed to get all open windows - " + e.getMessage());
-            throw new RuntimeException("Failed to get all open windows", e);
-        }
+        return getAllTabs();
     }
 
     /**
-     * Switches to a specific window by its index.
+     * Switches to a specific window by its index, see {@link #switchToTab(int)}.
      *
      * @param index Index of the window to switch to (starting from 0)
      */
     public void switchToWindow(int index) {
-        try {
-            logger.fine("Switching to window at index: " + index);
-            List<Page> windows = page.context().pages();
-            if (index >= windows.size()) {
-                throw new IllegalArgumentException("Window index out of bounds: " + index);
-            }
-            page = windows.get(index);
-        } catch (Exception e) {
-            logger.severe("Failed to switch to window at index: " + index + " - " + e.getMessage());
-            throw new RuntimeException("Failed to switch to window at index: " + index, e);
-        }
+        switchToTab(index);
     }
 
     /**
@@ -670,19 +1123,64 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param url URL of the window to switch to
      */
     public void switchToWindowByUrl(String url) {
-        try {
-            logger.fine("Switching to window with URL: " + url);
-            List<Page> windows = page.context().pages();
-            for (Page window : windows) {
-                if (url.equals(window.url())) {
-                    page = window;
+        perform(ActionType.SWITCH, null, () -> "switch to window with URL: " + url, () -> {
+            Page window = tabs().byUrl(url);
+            if (window == null) {
+                throw new IllegalArgumentException("No window found with URL: " + url);
+            }
+            switchPage(window);
+        });
+    }
+
+    /**
+     * Switches back to the tab that was active before the last tab or window switch. Tabs closed
+     * in the meantime are skipped.
+     */
+    public void switchToPreviousTab() {
+        perform(ActionType.SWITCH, null, () -> "switch back to the previous tab", () -> {
+            while (!previousTabs.isEmpty()) {
+                Page previous = previousTabs.pop();
+                if (!previous.isClosed()) {
+                    page = previous;
                     return;
                 }
             }
-            throw new IllegalArgumentException("No window found with URL: " + url);
-        } catch (Exception e) {
-            logger.severe("Failed to switch to window with URL: " + url + " - " + e.getMessage());
-            throw new RuntimeException("Failed to switch to window with URL: " + url, e);
+            throw new IllegalStateException("No previous tab to switch back to");
+        });
+    }
+
+    /**
+     * Performs an action that opens a popup, such as a Guidewire document window, and switches to
+     * the popup as soon as the browser reports it.
+     *
+     * @param trigger Action opening the popup, e.g. a click
+     * @return The popup, now the current page
+     */
+    public Page switchToPopup(Runnable trigger) {
+        return perform(ActionType.SWITCH, null, () -> "switch to a popup", () -> {
+            TabRegistry registry = tabs();
+            long openedBefore = registry.opened();
+            trigger.run();
+            Page popup = registry.awaitPopup(page, openedBefore, DEFAULT_TIMEOUT);
+            switchPage(popup);
+            return popup;
+        });
+    }
+
+    private TabRegistry tabs() {
+        return TabRegistry.of(page.context());
+    }
+
+    /**
+     * Makes a tab the current page of this helper, remembering the current one for
+     * {@link #switchToPreviousTab()}.
+     *
+     * @param target The tab to switch to
+     */
+    private void switchPage(Page target) {
+        if (target != page) {
+            previousTabs.push(page);
+            page = target;
         }
     }
 
@@ -694,14 +1192,18 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return true if the attribute exists, false otherwise
      */
     public boolean hasAttribute(String element, String attribute) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Checking if element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " has attribute: " + attribute);
-            return getElementLocator(element).getAttribute(attribute) != null;
-        } catch (Exception e) {
-            logger.severe("Failed to check attribute: " + attribute + " on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            return false;
-        }
+        return hasAttribute(ElementInfo.of(element), attribute);
+    }
+
+    /**
+     * Checks if an element has a specific attribute.
+     *
+     * @param elementInfo Element to check
+     * @param attribute   Attribute name
+     * @return true if the attribute exists, false otherwise
+     */
+    public boolean hasAttribute(ElementInfo elementInfo, String attribute) {
+        return probe(ActionType.READ, elementInfo, () -> "check attribute: " + attribute + " on element: " + elementInfo, false, () -> getElementLocator(elementInfo, ActionType.READ).getAttribute(attribute) != null);
     }
 
     /**
@@ -712,14 +1214,18 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return true if the class exists, false otherwise
      */
     public boolean hasClass(String element, String className) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Checking if element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " has class: " + className);
-            return getElementLocator(element).getAttribute("class").contains(className);
-        } catch (Exception e) {
-            logger.severe("Failed to check class: " + className + " on element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            return false;
-        }
+        return hasClass(ElementInfo.of(element), className);
+    }
+
+    /**
+     * Checks if an element has a specific class.
+     *
+     * @param elementInfo Element to check
+     * @param className   Class name to check
+     * @return true if the class exists, false otherwise
+     */
+    public boolean hasClass(ElementInfo elementInfo, String className) {
+        return probe(ActionType.READ, elementInfo, () -> "check class: " + className + " on element: " + elementInfo, false, () -> getElementLocator(elementInfo, ActionType.READ).getAttribute("class").contains(className));
     }
 
     /**
@@ -729,13 +1235,59 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @param value   Value to type
      */
     public void typeCurrencyField(String element, String value) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Typing currency value: " + value + " into element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            getElementLocator(element).type(value);
-        } catch (Exception e) {
-            logger.severe("Failed to type currency value into element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to type currency value into element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
+        typeCurrencyField(ElementInfo.of(element), value);
+    }
+
+    /**
+     * Types a value into a currency field.
+     *
+     * @param elementInfo Element to type into
+     * @param value       Value to type
+     * @see #typeMaskedField(ElementInfo, ElementType, String)
+     */
+    public void typeCurrencyField(ElementInfo elementInfo, String value) {
+        typeMaskedField(elementInfo, ElementType.CURRENCY, value);
+    }
+
+    /**
+     * Enters a value into a Guidewire masked input.
+     *
+     * @param element Element to type into
+     * @param mask    Mask of the field: {@link ElementType#CURRENCY}, {@link ElementType#DATE} or {@link ElementType#PHONE}
+     * @param value   Value to enter
+     */
+    public void typeMaskedField(String element, ElementType mask, String value) {
+        typeMaskedField(ElementInfo.of(element), mask, value);
+    }
+
+    /**
+     * Enters a value into a Guidewire masked input. The value is set in one script that
+     * dispatches the events the mask reformats on, and the formatted result is checked with
+     * {@link ElementType#matchesFormatted(String, String)}. Only if it does not match is the value
+     * typed key by key.
+     *
+     * @param elementInfo Element to type into
+     * @param mask        Mask of the field: {@link ElementType#CURRENCY}, {@link ElementType#DATE} or {@link ElementType#PHONE}
+     * @param value       Value to enter
+     */
+    public void typeMaskedField(ElementInfo elementInfo, ElementType mask, String value) {
+        perform(ActionType.TYPE, elementInfo, () -> "type " + mask + " value into element: " + elementInfo, () -> {
+            Locator locator = getElementLocator(elementInfo, ActionType.TYPE);
+            String formatted = (String) locator.evaluate(DomScripts.FILL_MASKED, value);
+            if (!mask.matchesFormatted(value, formatted)) {
+                if (logger.isLoggable(Level.FINE)) logger.fine("Element: " + elementInfo + " shows: " + formatted + ", typing key by key");
+                typeKeyByKey(locator, mask, value);
+            }
+        });
+    }
+
+    private static void typeKeyByKey(Locator locator, ElementType mask, String value) {
+        locator.clear();
+        locator.pressSequentially(value);
+        locator.blur();
+        String formatted = locator.inputValue();
+        if (!mask.matchesFormatted(value, formatted)) {
+            throw new IllegalStateException("Masked " + mask + " field shows: " + formatted + " after typing: " + value);
         }
     }
 
@@ -746,13 +1298,21 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return List of text contents
      */
     public List<String> getAllTextContents(String locator) {
-        try {
-            logger.fine("Getting all text contents for locator: " + locator);
-            return page.locator(locator).allTextContents();
-        } catch (Exception e) {
-            logger.severe("Failed to get all text contents for locator: " + locator + " - " + e.getMessage());
-            throw new RuntimeException("Failed to get all text contents for locator: " + locator, e);
-        }
+        return perform(ActionType.READ, null, () -> "get all text contents for locator: " + locator, () -> page.locator(locator).allTextContents());
+    }
+
+    /**
+     * Retrieves all text contents of the elements an element definition matches, without
+     * waiting for any of them.
+     *
+     * @param elementInfo Element matching any number of page elements
+     * @return List of text contents
+     */
+    public List<String> getAllTextContents(ElementInfo elementInfo) {
+        return perform(ActionType.READ, elementInfo, () -> "get all text contents for element: " + elementInfo, () -> {
+            settlePostbacks();
+            return resolveLocator(elementInfo.getDefinition(), WaitForSelectorState.ATTACHED, DEFAULT_TIMEOUT).allTextContents();
+        });
     }
 
     /**
@@ -762,13 +1322,193 @@ public class WebInteractionHelper extends LocatorPageManager {
      * @return Value of the input field
      */
     public String getInputValue(String element) {
-        ElementInfo elementInfo = new ElementInfo(element);
-        try {
-            logger.fine("Getting value from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName());
-            return getElementLocator(element).inputValue();
-        } catch (Exception e) {
-            logger.severe("Failed to get value from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName() + " - " + e.getMessage());
-            throw new RuntimeException("Failed to get value from element: " + elementInfo.getElementName() + " in page: " + elementInfo.getPageName(), e);
+        return getInputValue(ElementInfo.of(element));
+    }
+
+    /**
+     * Retrieves the value of an input field.
+     *
+     * @param elementInfo Element to get value from
+     * @return Value of the input field
+     */
+    public String getInputValue(ElementInfo elementInfo) {
+        return perform(ActionType.READ, elementInfo, () -> "get value from element: " + elementInfo, () -> getElementLocator(elementInfo, ActionType.READ).inputValue());
+    }
+
+    /**
+     * Fills several form fields, in the map's iteration order, with as few browser round trips as
+     * possible. Consecutive fields are set together in one script that assigns each value and
+     * dispatches the input, change and blur events the application listens to. Fields declared
+     * with {@code postback: true}, fields the script could not set and masked fields whose
+     * formatted value does not represent the value entered are filled one by one with the
+     * regular actions, which wait for the field to become ready; after a postback field the
+     * postback it triggers is waited for.
+     * <p>
+     * Values are applied by type: a {@link Boolean} checks or unchecks the field, an
+     * {@link Integer} on a dropdown selects by index, any other value on a dropdown selects by
+     * label (or value), and anything else, numbers included, is typed as text.
+     *
+     * @param fields Element names mapped to their values, typically a {@link java.util.LinkedHashMap}
+     * @throws IllegalArgumentException If a value does not apply to its field's element type.
+     * @throws RuntimeException         If a batch or a field action fails; the action logs the failure.
+     */
+    public void fillForm(Map<String, ?> fields) {
+        if (logger.isLoggable(Level.FINE)) logger.fine("Filling form fields: " + fields.keySet());
+        List<Map<String, Object>> batch = new ArrayList<>();
+        List<String> batchFrames = null;
+        for (Map.Entry<String, ?> field : fields.entrySet()) {
+            ElementInfo elementInfo = ElementInfo.of(field.getKey());
+            LocatorDefinition definition = elementInfo.getDefinition();
+            ActionType action = fillAction(definition, field.getValue());
+            if (!definition.getType().supports(action)) {
+                String message = "Action " + action + " is not supported on " + definition.getType() + " element: " + elementInfo;
+                logger.severe("Failed to fill form fields: " + fields.keySet() + " - " + message);
+                throw new IllegalArgumentException(message);
+            }
+            if (definition.isPostback() || !definition.getFrames().equals(batchFrames)) {
+                fillBatch(batch, batchFrames, fields);
+            }
+            if (definition.isPostback()) {
+                fillPostbackField(elementInfo, action, field.getValue());
+                continue;
+            }
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("name", field.getKey());
+            entry.put("selectors", definition.getSelectors());
+            entry.put("value", field.getValue());
+            entry.put("mask", definition.getType().isMasked());
+            entry.put("index", field.getValue() instanceof Integer);
+            batch.add(entry);
+            batchFrames = definition.getFrames();
+        }
+        fillBatch(batch, batchFrames, fields);
+    }
+
+    private static ActionType fillAction(LocatorDefinition definition, Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? ActionType.CHECK : ActionType.UNCHECK;
         }
+        return definition.getType() == ElementType.DROPDOWN ? ActionType.SELECT : ActionType.TYPE;
+    }
+
+    private void fillBatch(List<Map<String, Object>> batch, List<String> frames, Map<String, ?> fields) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object> names = new ArrayList<>(batch.size());
+        for (Map<String, Object> entry : batch) {
+            names.add(entry.get("name"));
+        }
+        List<?> results = perform(ActionType.FILL, null, () -> "fill form fields: " + names, () -> {
+            awaitIdle();
+            return (List<?>) evaluate(page, frames, DomScripts.FILL_FORM, batch);
+        });
+        batch.clear();
+        for (Object item : results) {
+            Map<?, ?> result = (Map<?, ?>) item;
+            String element = (String) result.get("name");
+            ElementInfo elementInfo = ElementInfo.of(element);
+            Object value = fields.get(element);
+            String formatted = (String) result.get("formatted");
+            if (formatted != null && elementInfo.getDefinition().getType().matchesFormatted(String.valueOf(value), formatted)) {
+                continue;
+            }
+            if (logger.isLoggable(Level.FINE)) logger.fine("Falling back to a per-field action for element: " + element);
+            fillField(elementInfo, fillAction(elementInfo.getDefinition(), value), value);
+        }
+    }
+
+    /**
+     * Waits for pending postbacks, which counts as the wait of the action being performed.
+     */
+    private void awaitIdle() {
+        settlePostbacks();
+        ActionTrace.ready();
+    }
+
+    /**
+     * Waits, with the default timeout, for the postbacks of previous actions to complete.
+     */
+    private void settlePostbacks() {
+        if (PostbackTracker.isEnabled()) {
+            PostbackTracker.of(page).awaitIdle(DEFAULT_TIMEOUT);
+        }
+    }
+
+    private void fillPostbackField(ElementInfo elementInfo, ActionType action, Object value) {
+        if (!PostbackTracker.isEnabled() || awaitsPostback(action, elementInfo)) {
+            fillField(elementInfo, action, value);
+            return;
+        }
+        PostbackTracker tracker = PostbackTracker.of(page);
+        tracker.awaitIdle(DEFAULT_TIMEOUT);
+        long startedBefore = tracker.started();
+        fillField(elementInfo, action, value);
+        tracker.awaitPostback(startedBefore, DEFAULT_TIMEOUT);
+    }
+
+    private void fillField(ElementInfo elementInfo, ActionType action, Object value) {
+        switch (action) {
+            case CHECK:
+                check(elementInfo);
+                break;
+            case UNCHECK:
+                uncheck(elementInfo);
+                break;
+            case SELECT:
+                if (value instanceof Integer) {
+                    selectByIndex(elementInfo, (Integer) value);
+                } else {
+                    perform(ActionType.SELECT, elementInfo, () -> "select option: " + value + " from dropdown: " + elementInfo,
+                            () -> selectOption(elementInfo, getElementLocator(elementInfo, ActionType.SELECT), OptionCache.Match.ANY, String.valueOf(value)));
+                }
+                break;
+            default:
+                if (elementInfo.getDefinition().getType().isMasked()) {
+                    typeMaskedField(elementInfo, elementInfo.getDefinition().getType(), String.valueOf(value));
+                } else {
+                    type(elementInfo, String.valueOf(value));
+                }
+        }
+    }
+
+    /**
+     * Reads the value, text content, checked state and visibility of several elements in one
+     * browser round trip per frame, once pending postbacks have completed. Elements are read as
+     * they are: absent ones are reported as not present instead of being waited for, and none is
+     * scrolled into view. For elements with fallback selectors, the first matching selector is used.
+     *
+     * @param elements Element names in the format "pageName.elementName"
+     * @return Snapshots by element name, in the given order
+     * @throws RuntimeException If the elements cannot be read; the read is retried and recorded as
+     *                          one {@link ActionType#READ_ALL} action.
+     */
+    public Map<String, ElementSnapshot> readAll(List<String> elements) {
+        Map<List<String>, List<Map<String, Object>>> entriesByFrame = new LinkedHashMap<>();
+        for (String element : elements) {
+            LocatorDefinition definition = ElementInfo.of(element).getDefinition();
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("name", element);
+            entry.put("selectors", definition.getSelectors());
+            entriesByFrame.computeIfAbsent(definition.getFrames(), f -> new ArrayList<>()).add(entry);
+        }
+        return perform(ActionType.READ_ALL, null, () -> "read elements: " + elements, () -> {
+            awaitIdle();
+            Map<String, ElementSnapshot> snapshots = new HashMap<>();
+            for (Map.Entry<List<String>, List<Map<String, Object>>> frameEntries : entriesByFrame.entrySet()) {
+                for (Object item : (List<?>) evaluate(page, frameEntries.getKey(), DomScripts.READ_ALL, frameEntries.getValue())) {
+                    Map<?, ?> result = (Map<?, ?>) item;
+                    String element = (String) result.get("name");
+                    snapshots.put(element, new ElementSnapshot(element, Boolean.TRUE.equals(result.get("found")),
+                            (String) result.get("value"), (String) result.get("text"),
+                            Boolean.TRUE.equals(result.get("checked")), Boolean.TRUE.equals(result.get("visible"))));
+                }
+            }
+            Map<String, ElementSnapshot> ordered = new LinkedHashMap<>();
+            for (String element : elements) {
+                ordered.put(element, snapshots.get(element));
+            }
+            return ordered;
+        });
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,47 @@
 package utils;
 
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
 /**
  * Parser for YAML locator files.
+ * <p>
+ * An element's {@code locator} is either a single selector or a list of candidate selectors,
+ * primary first, followed by fallbacks:
+ * <pre>
+ * searchButton:
+ *   locator:
+ *     - "div[id$='SearchLinksInputSet-Search']"
+ *     - "//div[text()='Search']"
+ *   type: "button"
+ *   metadata: "Search button of the search screens"
+ * </pre>
+ * The optional {@code type} must name an {@link ElementType}; {@code metadata} is a free-text description.
+ * <p>
+ * An element declaring {@code parameters} is a template whose selectors reference them as
+ * {@code {name}} placeholders, filled in by {@link ElementInfo#of(String, String...)}:
+ * <pre>
+ * coverageRow:
+ *   locator: "//div[@role='row' and .//div[contains(text(), '{coverage}')]]"
+ *   parameters: [coverage]
+ * </pre>
+ * Elements inside iframes declare the frame selector, or the list of nested frame selectors
+ * (outermost first), in {@code frame}:
+ * <pre>
+ * ratingWorksheetTotal:
+ *   locator: "div[id$=TotalPremium]"
+ *   frame: ["iframe#ratingPopup", "iframe.worksheet"]
+ * </pre>
+ * Fields whose change makes the application post back and re-render the form declare
+ * {@code postback: true}; {@link WebInteractionHelper#fillForm(Map)} then fills them one by one.
  */
 public class YamlParser {
     private static final Logger logger = Logger.getLogger(YamlParser.class.getName());
@@ -17,10 +50,10 @@ public class YamlParser {
      * Loads a YAML file and returns a map of locators for the elements.
      *
      * @param yamlFile Name of the YAML file to parse (without the `.yaml` extension).
-     * @return A map of element names to their locators.
+     * @return A map of element names to their locator definitions.
      * @throws IllegalArgumentException If the YAML file is not found or invalid.
      */
-    public static Map<String, String> parseYamlFile(String yamlFile) {
+    public static Map<String, LocatorDefinition> parseYamlFile(String yamlFile) {
         if (yamlFile == null || yamlFile.isEmpty()) {
             throw new IllegalArgumentException("YAML file name cannot be null or empty.");
         }
@@ -30,35 +63,111 @@ public class YamlParser {
             if (inputStream == null) {
                 throw new IllegalArgumentException("YAML file not found: " + resourcePath);
             }
+            return parseYaml(inputStream, resourcePath);
+        } catch (Exception e) {
+            logger.severe("Failed to parse YAML file: " + resourcePath + " - " + e.getMessage());
+            throw new RuntimeException("Failed to parse YAML file: " + resourcePath, e);
+        }
+    }
 
-            Yaml yaml = new Yaml();
-            Map<String, Map<String, Object>> data = yaml.load(inputStream);
+    /**
+     * Parses locator YAML content and returns a map of locators for the elements.
+     * Duplicate element names within the same file are rejected.
+     *
+     * @param inputStream YAML content.
+     * @param source      Description of the content (file or resource path) used in error messages.
+     * @return A map of element names to their locator definitions.
+     * @throws IllegalArgumentException If the content is empty or an element is malformed.
+     */
+    public static Map<String, LocatorDefinition> parseYaml(InputStream inputStream, String source) {
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setAllowDuplicateKeys(false);
+        Yaml yaml = new Yaml(loaderOptions);
+        Map<String, Object> data = yaml.load(inputStream);
 
-            if (data == null || data.isEmpty()) {
-                throw new IllegalArgumentException("YAML file is empty or invalid: " + resourcePath);
+        if (data == null || data.isEmpty()) {
+            throw new IllegalArgumentException("YAML file is empty or invalid: " + source);
+        }
+
+        Map<String, LocatorDefinition> elements = new HashMap<>();
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            String elementName = entry.getKey();
+            if (!(entry.getValue() instanceof Map)) {
+                throw new IllegalArgumentException("Missing 'locator' field for element: " + elementName);
             }
+            Map<?, ?> elementData = (Map<?, ?>) entry.getValue();
 
-            Map<String, String> elements = new HashMap<>();
-            for (Map.Entry<String, Map<String, Object>> entry : data.entrySet()) {
-                String elementName = entry.getKey();
-                Map<String, Object> elementData = entry.getValue();
+            if (!elementData.containsKey("locator")) {
+                throw new IllegalArgumentException("Missing 'locator' field for element: " + elementName);
+            }
 
-                if (elementData == null || !elementData.containsKey("locator")) {
-                    throw new IllegalArgumentException("Missing 'locator' field for element: " + elementName);
-                }
+            Object type = elementData.get("type");
+            Object metadata = elementData.get("metadata");
+            if ((type != null && !(type instanceof String)) || (metadata != null && !(metadata instanceof String))) {
+                throw new IllegalArgumentException("'type' and 'metadata' fields must be strings for element: " + elementName);
+            }
+
+            elements.put(elementName, new LocatorDefinition(elementName, parseSelectors(elementName, elementData.get("locator")),
+                    ElementType.fromName((String) type), (String) metadata, parseParameters(elementName, elementData.get("parameters")),
+                    parseFrames(elementName, elementData.get("frame")), parsePostback(elementName, elementData.get("postback"))));
+        }
+
+        return elements;
+    }
 
-                String locator = (String) elementData.get("locator");
-                if (locator == null || locator.isEmpty()) {
-                    throw new IllegalArgumentException("'locator' field is null or empty for element: " + elementName);
+    private static List<String> parseSelectors(String elementName, Object locator) {
+        if (locator instanceof String) {
+            return Collections.singletonList((String) locator);
+        }
+        if (locator instanceof List) {
+            List<String> selectors = new ArrayList<>();
+            for (Object selector : (List<?>) locator) {
+                if (!(selector instanceof String)) {
+                    throw new IllegalArgumentException("'locator' list must only contain strings for element: " + elementName);
                 }
+                selectors.add((String) selector);
+            }
+            return selectors;
+        }
+        throw new IllegalArgumentException("'locator' field is null or empty for element: " + elementName);
+    }
+
+    private static List<String> parseParameters(String elementName, Object parameters) {
+        if (parameters == null) {
+            return Collections.emptyList();
+        }
+        if (!(parameters instanceof List)) {
+            throw new IllegalArgumentException("'parameters' field must be a list for element: " + elementName);
+        }
+        List<String> names = new ArrayList<>();
+        for (Object parameter : (List<?>) parameters) {
+            if (!(parameter instanceof String) || ((String) parameter).isEmpty() || names.contains(parameter)) {
+                throw new IllegalArgumentException("'parameters' must be distinct non-empty names for element: " + elementName);
+            }
+            names.add((String) parameter);
+        }
+        return names;
+    }
 
-                elements.put(elementName, locator);
+    private static List<String> parseFrames(String elementName, Object frame) {
+        if (frame == null) {
+            return Collections.emptyList();
+        }
+        List<?> frames = frame instanceof List ? (List<?>) frame : Collections.singletonList(frame);
+        List<String> selectors = new ArrayList<>();
+        for (Object selector : frames) {
+            if (!(selector instanceof String) || ((String) selector).isEmpty()) {
+                throw new IllegalArgumentException("'frame' must be a non-empty selector or list of selectors for element: " + elementName);
             }
+            selectors.add((String) selector);
+        }
+        return selectors;
+    }
 
-            return elements;
-        } catch (Exception e) {
-            logger.severe("Failed to parse YAML file: " + resourcePath + " - " + e.getMessage());
-            throw new RuntimeException("Failed to parse YAML file: " + resourcePath, e);
+    private static boolean parsePostback(String elementName, Object postback) {
+        if (postback != null && !(postback instanceof Boolean)) {
+            throw new IllegalArgumentException("'postback' field must be true or false for element: " + elementName);
         }
+        return Boolean.TRUE.equals(postback);
     }
-}
\ No newline at end of file
+}
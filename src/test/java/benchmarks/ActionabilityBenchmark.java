@@ -0,0 +1,74 @@
+package benchmarks;
+
+import com.microsoft.playwright.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import pageobjects.HomePage;
+import utilities.StubPage;
+import utils.ActionabilityStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays {@link HomePage#createAccount_Person()} under each {@link ActionabilityStrategy} on a
+ * {@link StubPage} that simulates the latency of every browser round trip, so the time per flow
+ * shows what the redundant waits and scrolls of the strict strategy cost. The round trips per
+ * flow are printed at the end of each trial.
+ * <p>
+ * Run with:
+ * {@code mvn test-compile && mvn exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath benchmarks.ActionabilityBenchmark"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ActionabilityBenchmark {
+
+    @Param({"STRICT", "PLAYWRIGHT_NATIVE", "NONE"})
+    public ActionabilityStrategy strategy;
+
+    @Param({"500"})
+    public long roundTripMicros;
+
+    private Page page;
+    private HomePage homePage;
+    private long flows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = StubPage.create(roundTripMicros);
+        homePage = new HomePage(page);
+        homePage.setActionabilityStrategy(strategy);
+    }
+
+    @Benchmark
+    public boolean createAccountPerson() {
+        flows++;
+        return homePage.createAccount_Person();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportRoundTrips() {
+        System.out.printf("%n%s: %.1f browser round trips per createAccount_Person%n", strategy, (double) StubPage.roundTrips(page) / flows);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ActionabilityBenchmark.class.getSimpleName()).build()).run();
+    }
+}
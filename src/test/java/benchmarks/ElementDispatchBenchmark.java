@@ -0,0 +1,97 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import utilities.StubPage;
+import utils.ElementInfo;
+import utils.WebInteractionHelper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the framework's own per-action overhead for click, type and getText dispatch.
+ * The page is a {@link StubPage}, so no browser round trips are included.
+ * <p>
+ * {@code splitParseAndLog} reproduces the former per-action cost of parsing the element string
+ * with a regex split twice and building the FINE log strings unconditionally.
+ * <p>
+ * Run with:
+ * {@code mvn test-compile && mvn exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-cp %classpath benchmarks.ElementDispatchBenchmark"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementDispatchBenchmark {
+    private static final String ELEMENT = "account.firstNameField";
+
+    private WebInteractionHelper helper;
+    private ElementInfo elementInfo;
+
+    @Setup
+    public void setUp() {
+        helper = new WebInteractionHelper(StubPage.create());
+        elementInfo = ElementInfo.of(ELEMENT);
+    }
+
+    @Benchmark
+    public void splitParseAndLog(Blackhole blackhole) {
+        for (int i = 0; i < 2; i++) {
+            String[] parts = ELEMENT.split("\\.");
+            blackhole.consume("Clicking on element: " + parts[1] + " in page: " + parts[0]);
+        }
+    }
+
+    @Benchmark
+    public ElementInfo internedLookup() {
+        return ElementInfo.of(ELEMENT);
+    }
+
+    @Benchmark
+    public void clickByName() {
+        helper.click(ELEMENT);
+    }
+
+    @Benchmark
+    public void clickByElementInfo() {
+        helper.click(elementInfo);
+    }
+
+    @Benchmark
+    public void typeByName() {
+        helper.type(ELEMENT, "John");
+    }
+
+    @Benchmark
+    public void typeByElementInfo() {
+        helper.type(elementInfo, "John");
+    }
+
+    @Benchmark
+    public String getTextByName() {
+        return helper.getText(ELEMENT);
+    }
+
+    @Benchmark
+    public String getTextByElementInfo() {
+        return helper.getText(elementInfo);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ElementDispatchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -10,6 +10,9 @@ import org.testng.annotations.*;
 import pageobjects.BOP.BusinessownersPage;
 import pageobjects.HomePage;
 import utilities.BrowserUtil;
+import utils.ActionMetrics;
+import utils.ActionTrace;
+import utils.RetryPolicy;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
@@ -29,8 +32,8 @@ import java.util.Properties;
  */
 public class TestBase {
     private static final Logger LOG = LoggerFactory.getLogger(TestBase.class);
-    private static Playwright playwright;
-    private static Browser browser;
+    private static final ThreadLocal<Playwright> PLAYWRIGHT = new ThreadLocal<>();
+    private static final ThreadLocal<Browser> BROWSER = new ThreadLocal<>();
     private static final ThreadLocal<BrowserContext> context = new ThreadLocal<>();
     private static final ThreadLocal<Page> PAGE = new ThreadLocal<>();
     private static final ThreadLocal<Map<String, String>> TEST_PARAMETERS = new ThreadLocal<>();
@@ -84,9 +87,12 @@ public class TestBase {
      */
     @BeforeClass
     void launchBrowser() {
+        // Playwright objects are not thread-safe: each test class thread gets its own
         String browserType = config.getProperty("browser", "CHROMIUM_HEADLESS");
-        playwright = Playwright.create();
-        browser = BrowserUtil.createBrowser(browserType, playwright);
+        Playwright playwright = Playwright.create();
+        PLAYWRIGHT.set(playwright);
+        Browser browser = BrowserUtil.createBrowser(browserType, playwright);
+        BROWSER.set(browser);
         LOG.info("Browser launched: " + browserType);
 
         // Create a new browser context and page for the entire test class
@@ -112,6 +118,10 @@ public class TestBase {
         // Initialize test parameters
         TEST_PARAMETERS.set(new HashMap<>());
 
+        // Start the action trace and the retry budget afresh for this test
+        ActionTrace.clear();
+        RetryPolicy.resetBudget();
+
         // Log test start
         LOG.info("Starting test: {}", method.getName());
 
@@ -168,26 +178,35 @@ public class TestBase {
         // Close the browser context and page after all tests in the class
         if (context.get() != null) {
             context.get().close();
+            context.remove();
+            PAGE.remove();
             LOG.info("Browser context closed.");
         }
 
-        if (browser != null) {
-            browser.close();
+        if (BROWSER.get() != null) {
+            BROWSER.get().close();
+            BROWSER.remove();
             LOG.info("Browser closed.");
         }
 
-        if (playwright != null) {
-            playwright.close();
+        if (PLAYWRIGHT.get() != null) {
+            PLAYWRIGHT.get().close();
+            PLAYWRIGHT.remove();
             LOG.info("Playwright closed.");
         }
     }
 
     /**
      * Final cleanup after all tests.
-     * Generates and opens the Allure report if configured.
+     * Exports the action latency percentiles, then generates and opens the Allure report if configured.
      */
     @AfterSuite
     public void teardownTestSuite() {
+        // Export action latency percentiles before the report is generated
+        if (ActionMetrics.isEnabled()) {
+            Allure.addAttachment("Action Latency Percentiles", "application/json", ActionMetrics.export(), ".json");
+        }
+
         // Generate and open Allure report
         if (getBooleanProperty("allure.auto.generate", true)) {
             utilities.AllureReportLauncher.generateAndOpenReport();
@@ -6,6 +6,8 @@ import io.qameta.allure.model.Label;
 import io.qameta.allure.model.Status;
 import io.qameta.allure.model.TestResult;
 import stepdefinitions.TestBase;
+import utils.ActionMetrics;
+import utils.ActionTrace;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -328,6 +330,11 @@ public class AllureTestListener implements TestLifecycleListener {
                 Allure.addAttachment(testName + "_No_Screenshot", "text/plain", "No screenshot available: Page object was null");
             }
 
+            String actionTrace = ActionTrace.dump();
+            if (!actionTrace.isEmpty()) {
+                Allure.addAttachment(testName + "_Action_Trace", "text/plain", actionTrace);
+            }
+
             if (errorTrace != null) {
                 Allure.addAttachment(testName + "_Error_Trace", "text/plain", errorTrace);
                 analyzeError(testName, errorTrace);
@@ -476,6 +483,7 @@ public class AllureTestListener implements TestLifecycleListener {
     private void updateExecutionTimeHistogram(String testName, long durationMillis) {
         try {
             LOG.debug("Execution time for {}: {} ms", testName, durationMillis);
+            ActionMetrics.recordTestDuration(durationMillis);
         } catch (Exception e) {
             LOG.warn("Failed to update execution time histogram", e);
         }
@@ -0,0 +1,175 @@
+package utilities;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Browser-free stand-ins for Playwright {@link Page} and {@link Locator}, for tests and benchmarks
+ * of framework code that only needs to create, bind and call locators.
+ * <p>
+ * Every stub Locator remembers the Page and selector it was created for. Calls that Playwright
+ * would send to the browser return null, false or zero, and scripts evaluate to an empty list, as
+ * if nothing in the page matched. A stub Page can simulate the latency of
+ * such round trips and counts them.
+ */
+public final class StubPage {
+
+    /** Page and Locator methods Playwright handles on the client without a browser round trip. */
+    private static final Set<String> CLIENT_SIDE_METHODS = new HashSet<>(Arrays.asList(
+            "locator", "frameLocator", "or", "and", "first", "last", "nth", "filter", "page",
+            "onClose", "onRequest", "onRequestFinished", "onRequestFailed", "onFrameNavigated", "hashCode", "equals", "toString"));
+
+    private StubPage() {
+    }
+
+    /**
+     * Creates a new stub Page.
+     *
+     * @return The stub Page.
+     */
+    public static Page create() {
+        return create(0);
+    }
+
+    /**
+     * Creates a new stub Page whose browser round trips each take the given time.
+     *
+     * @param roundTripMicros Simulated latency of each browser round trip, in microseconds.
+     * @return The stub Page.
+     */
+    public static Page create(long roundTripMicros) {
+        return (Page) Proxy.newProxyInstance(StubPage.class.getClassLoader(), new Class<?>[]{Page.class},
+                new PageHandler(TimeUnit.MICROSECONDS.toNanos(roundTripMicros)));
+    }
+
+    /**
+     * Returns the number of browser round trips made through a stub Page and its Locators.
+     *
+     * @param page The stub Page.
+     * @return Number of round trips so far.
+     */
+    public static long roundTrips(Page page) {
+        return ((PageHandler) Proxy.getInvocationHandler(page)).roundTrips.get();
+    }
+
+    /**
+     * Fires the close listeners registered on a stub Page.
+     *
+     * @param page The stub Page.
+     */
+    public static void close(Page page) {
+        PageHandler handler = (PageHandler) Proxy.getInvocationHandler(page);
+        handler.closeListeners.forEach(listener -> listener.accept(page));
+    }
+
+    /**
+     * Returns the stub Page a stub Locator was created from.
+     *
+     * @param locator The stub Locator.
+     * @return The owning stub Page.
+     */
+    public static Page ownerOf(Locator locator) {
+        return ((LocatorHandler) Proxy.getInvocationHandler(locator)).page;
+    }
+
+    /**
+     * Returns the selector a stub Locator was created with.
+     *
+     * @param locator The stub Locator.
+     * @return The selector.
+     */
+    public static String selectorOf(Locator locator) {
+        return ((LocatorHandler) Proxy.getInvocationHandler(locator)).selector;
+    }
+
+    private static Object defaultValue(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "Stub" + method.getDeclaringClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            case "evaluate":
+                return Collections.emptyList();
+            default:
+                break;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == double.class) {
+            return 0.0;
+        }
+        return null;
+    }
+
+    private static final class PageHandler implements InvocationHandler {
+        private final List<Consumer<Page>> closeListeners = new CopyOnWriteArrayList<>();
+        private final AtomicLong roundTrips = new AtomicLong();
+        private final long roundTripNanos;
+
+        private PageHandler(long roundTripNanos) {
+            this.roundTripNanos = roundTripNanos;
+        }
+
+        private void roundTrip(Method method) {
+            if (!CLIENT_SIDE_METHODS.contains(method.getName())) {
+                roundTrips.incrementAndGet();
+                if (roundTripNanos > 0) {
+                    LockSupport.parkNanos(roundTripNanos);
+                }
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            roundTrip(method);
+            switch (method.getName()) {
+                case "locator":
+                    return Proxy.newProxyInstance(StubPage.class.getClassLoader(), new Class<?>[]{Locator.class},
+                            new LocatorHandler((Page) proxy, (String) args[0]));
+                case "onClose":
+                    closeListeners.add((Consumer<Page>) args[0]);
+                    return null;
+                default:
+                    return defaultValue(proxy, method, args);
+            }
+        }
+    }
+
+    private static final class LocatorHandler implements InvocationHandler {
+        private final Page page;
+        private final String selector;
+
+        private LocatorHandler(Page page, String selector) {
+            this.page = page;
+            this.selector = selector;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            ((PageHandler) Proxy.getInvocationHandler(page)).roundTrip(method);
+            return defaultValue(proxy, method, args);
+        }
+    }
+}
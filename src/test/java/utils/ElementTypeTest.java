@@ -0,0 +1,55 @@
+package utils;
+
+import org.testng.annotations.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for how masked element types compare a formatted value with the value entered.
+ */
+public class ElementTypeTest {
+
+    @Test
+    public void phoneAcceptsFormattingAndACountryCode() {
+        assertThat(ElementType.PHONE.matchesFormatted("5551234567", "(555) 123-4567")).isTrue();
+        assertThat(ElementType.PHONE.matchesFormatted("1-555-123-4567", "(555) 123-4567")).isTrue();
+        assertThat(ElementType.PHONE.matchesFormatted("+44 20 7946 0958", "020 7946 0958")).isFalse();
+        assertThat(ElementType.PHONE.matchesFormatted("+44 20 7946 0958", "20 7946 0958")).isTrue();
+        assertThat(ElementType.PHONE.matchesFormatted("1234567", "123-4567")).isTrue();
+    }
+
+    @Test
+    public void phoneRejectsTruncatedOrPaddedNumbers() {
+        assertThat(ElementType.PHONE.matchesFormatted("555-123-4567", "4567")).isFalse();
+        assertThat(ElementType.PHONE.matchesFormatted("123456", "123-456")).isFalse();
+        assertThat(ElementType.PHONE.matchesFormatted("12345-555-123-4567", "(555) 123-4567")).isFalse();
+        assertThat(ElementType.PHONE.matchesFormatted("555-123-4567", "555-123-4568")).isFalse();
+    }
+
+    @Test
+    public void currencyComparesAmounts() {
+        assertThat(ElementType.CURRENCY.matchesFormatted("1234.5", "$1,234.50")).isTrue();
+        assertThat(ElementType.CURRENCY.matchesFormatted("1000", "1,000.00 USD")).isTrue();
+        assertThat(ElementType.CURRENCY.matchesFormatted("-1234", "($1,234.00)")).isTrue();
+        assertThat(ElementType.CURRENCY.matchesFormatted("1234", "($1,234.00)")).isFalse();
+        assertThat(ElementType.CURRENCY.matchesFormatted("1234.5", "$12,345.00")).isFalse();
+        assertThat(ElementType.CURRENCY.matchesFormatted("abc", "$0.00")).isFalse();
+    }
+
+    @Test
+    public void dateIgnoresZeroPaddingAndSeparators() {
+        assertThat(ElementType.DATE.matchesFormatted("1/5/2024", "01/05/2024")).isTrue();
+        assertThat(ElementType.DATE.matchesFormatted("01-05-2024", "1/5/2024")).isTrue();
+        assertThat(ElementType.DATE.matchesFormatted("1/5/2024", "5/1/2024")).isFalse();
+        assertThat(ElementType.DATE.matchesFormatted("1/5/2024", "1/5/24")).isFalse();
+        assertThat(ElementType.DATE.matchesFormatted("1/0/2024", "1/00/2024")).isTrue();
+    }
+
+    @Test
+    public void otherTypesRequireTheValueAsEntered() {
+        assertThat(ElementType.INPUT.matchesFormatted("Smith", "Smith")).isTrue();
+        assertThat(ElementType.INPUT.matchesFormatted("Smith", "smith")).isFalse();
+        assertThat(ElementType.INPUT.matchesFormatted(null, null)).isTrue();
+        assertThat(ElementType.DATE.matchesFormatted("1/5/2024", null)).isFalse();
+    }
+}
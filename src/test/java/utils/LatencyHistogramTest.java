@@ -0,0 +1,80 @@
+package utils;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the bucket layout and percentile math of {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketsAreExactBelowSixteenMicros() {
+        for (long micros = 0; micros < 16; micros++) {
+            assertThat(LatencyHistogram.bucketOf(micros)).isEqualTo((int) micros);
+            assertThat(LatencyHistogram.upperBound((int) micros)).isEqualTo(micros);
+        }
+    }
+
+    @Test
+    public void bucketsAreOrderedAndWithinAnEighthAbove() {
+        int previous = -1;
+        for (long micros = 0; micros < 1 << 20; micros++) {
+            int bucket = LatencyHistogram.bucketOf(micros);
+            long upperBound = LatencyHistogram.upperBound(bucket);
+            assertThat(bucket).isBetween(previous, previous + 1);
+            assertThat(upperBound).isGreaterThanOrEqualTo(micros).isLessThanOrEqualTo(micros + micros / 8);
+            previous = bucket;
+        }
+    }
+
+    @Test
+    public void hugeLatenciesShareTheLastBucket() {
+        int last = LatencyHistogram.bucketOf(Long.MAX_VALUE);
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE / 2)).isEqualTo(last);
+        assertThat(LatencyHistogram.bucketOf(1L << 39)).isLessThan(last);
+    }
+
+    @Test
+    public void percentilesReportBucketUpperBoundsCappedAtTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.percentile(50)).isEqualTo(1.024);
+        assertThat(histogram.percentile(90)).isEqualTo(1.024);
+        assertThat(histogram.percentile(91)).isEqualTo(100.0);
+        assertThat(histogram.percentile(99)).isEqualTo(100.0);
+        assertThat(histogram.max()).isEqualTo(100.0);
+    }
+
+    @Test
+    public void emptyAndNegativeLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.percentile(99)).isZero();
+
+        histogram.record(-5);
+        assertThat(histogram.count()).isEqualTo(1);
+        assertThat(histogram.percentile(50)).isZero();
+        assertThat(histogram.max()).isZero();
+    }
+
+    @Test
+    public void jsonListsCountPercentilesAndMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(10));
+        StringBuilder json = new StringBuilder();
+
+        histogram.appendJson(json);
+
+        assertThat(json.toString()).isEqualTo("{\"count\":1,\"p50\":0.010,\"p90\":0.010,\"p99\":0.010,\"max\":0.010}");
+    }
+}
@@ -0,0 +1,90 @@
+package utils;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import org.testng.annotations.Test;
+import utilities.StubPage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stress test for locator binding while several Playwright pages are driven in parallel.
+ */
+public class LocatorPageManagerConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 2_000;
+    private static final String[][] ELEMENTS = {
+            {"account", "firstNameField"},
+            {"account", "stateDropdown"},
+            {"common", "searchButton"},
+            {"common", "loginButton"},
+            {"businessownersline", "searchButton"},
+            {"BusinessownersLine", "policyTable"}
+    };
+
+    @Test
+    public void parallelPagesOnlyResolveTheirOwnLocators() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Page>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    Page page = StubPage.create();
+                    start.await();
+                    for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                        for (String[] element : ELEMENTS) {
+                            Locator locator = LocatorPageManager.getLocator(page, element[0], element[1]);
+                            assertThat(StubPage.ownerOf(locator)).isSameAs(page);
+                            assertThat(StubPage.selectorOf(locator))
+                                    .isEqualTo(LocatorPageManager.getDefinitions(element[0]).get(element[1]).getSelector());
+                            assertThat(LocatorPageManager.getLocator(page, element[0], element[1])).isSameAs(locator);
+                        }
+                    }
+                    return page;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Page> result : results) {
+                Page page = result.get(60, TimeUnit.SECONDS);
+                Locator locator = LocatorPageManager.getLocator(page, "common", "searchButton");
+                assertThat(StubPage.ownerOf(locator)).isSameAs(page);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void samePageNamedElementsResolveToTheirOwnPage() {
+        Page page = StubPage.create();
+
+        Locator commonSearch = LocatorPageManager.getLocator(page, "common", "searchButton");
+        Locator bopSearch = LocatorPageManager.getLocator(page, "businessownersline", "searchButton");
+
+        assertThat(StubPage.selectorOf(commonSearch)).isEqualTo("div[id*=SearchLinksInputSet-Search]");
+        assertThat(StubPage.selectorOf(bopSearch)).isEqualTo("#search-button");
+    }
+
+    @Test
+    public void closingPageReleasesItsLocators() {
+        Page page = StubPage.create();
+        Locator locator = LocatorPageManager.getLocator(page, "common", "loginButton");
+        int boundPages = LocatorPageManager.boundPageCount();
+
+        StubPage.close(page);
+
+        assertThat(LocatorPageManager.boundPageCount()).isEqualTo(boundPages - 1);
+        assertThat(LocatorPageManager.getLocator(page, "common", "loginButton")).isNotSameAs(locator);
+        StubPage.close(page);
+    }
+}
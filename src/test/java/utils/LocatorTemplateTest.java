@@ -0,0 +1,54 @@
+package utils;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for placeholder expansion of {@link LocatorTemplate}.
+ */
+public class LocatorTemplateTest {
+
+    @Test
+    public void expandsPlaceholdersInAnyOrderAndRepeated() {
+        LocatorTemplate template = LocatorTemplate.compile("//div[contains(text(), '{term}')]/..//div[text()='{coverage}']//*[@title='{term}']",
+                Arrays.asList("coverage", "term"));
+
+        assertThat(template.expand(Arrays.asList("Liability", "Limit")))
+                .isEqualTo("//div[contains(text(), 'Limit')]/..//div[text()='Liability']//*[@title='Limit']");
+        assertThat(template.uses(0)).isTrue();
+        assertThat(template.uses(1)).isTrue();
+    }
+
+    @Test
+    public void keepsUndeclaredAndUnclosedBracesAsLiteralText() {
+        LocatorTemplate template = LocatorTemplate.compile("div{color} > span[id='{id}'] {", Collections.singletonList("id"));
+
+        assertThat(template.expand(Collections.singletonList("x"))).isEqualTo("div{color} > span[id='x'] {");
+    }
+
+    @Test
+    public void handlesNestedAndAdjacentPlaceholders() {
+        LocatorTemplate template = LocatorTemplate.compile("{{a}}{b}{a}", Arrays.asList("a", "b"));
+
+        assertThat(template.expand(Arrays.asList("1", "2"))).isEqualTo("{1}21");
+    }
+
+    @Test
+    public void insertsArgumentsVerbatim() {
+        LocatorTemplate template = LocatorTemplate.compile("//td[text()='{name}']", Collections.singletonList("name"));
+
+        assertThat(template.expand(Collections.singletonList("{name} & $1 \\n"))).isEqualTo("//td[text()='{name} & $1 \\n']");
+    }
+
+    @Test
+    public void reportsUnusedParameters() {
+        LocatorTemplate template = LocatorTemplate.compile("#plain", Collections.singletonList("unused"));
+
+        assertThat(template.uses(0)).isFalse();
+        assertThat(template.expand(Collections.singletonList("ignored"))).isEqualTo("#plain");
+    }
+}